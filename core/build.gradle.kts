@@ -55,6 +55,9 @@ dependencies {
     
     // Test dependencies
     testImplementation("org.junit.jupiter:junit-jupiter:5.10.2")
+    // Provided by the server at runtime, needed to test the Polymath uploads
+    testImplementation(oraxenLibs.http)
+    testImplementation(oraxenLibs.gson)
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
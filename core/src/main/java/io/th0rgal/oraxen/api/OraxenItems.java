@@ -3,6 +3,7 @@ package io.th0rgal.oraxen.api;
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.compatibilities.provided.ecoitems.WrappedEcoItem;
 import io.th0rgal.oraxen.compatibilities.provided.mythiccrucible.WrappedCrucibleItem;
+import io.th0rgal.oraxen.config.ConfigsManager;
 import io.th0rgal.oraxen.config.Message;
 import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.items.ItemBuilder;
@@ -13,7 +14,6 @@ import io.th0rgal.oraxen.mechanics.MechanicsManager;
 import io.th0rgal.oraxen.nms.NMSHandlers;
 import io.th0rgal.oraxen.pack.generation.DuplicationHandler;
 import io.th0rgal.oraxen.utils.AdventureUtils;
-import io.th0rgal.oraxen.utils.OraxenYaml;
 import io.th0rgal.oraxen.utils.VersionUtil;
 import io.th0rgal.oraxen.utils.logs.Logs;
 import net.Indyuce.mmoitems.MMOItems;
@@ -22,6 +22,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.components.FoodComponent;
 import org.bukkit.inventory.meta.components.JukeboxPlayableComponent;
@@ -31,21 +32,23 @@ import javax.annotation.Nullable;
 import java.io.File;
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class OraxenItems {
 
     public static final NamespacedKey ITEM_ID = new NamespacedKey(OraxenPlugin.get(), "id");
-    private static Map<File, Map<String, ItemBuilder>> map;
-    private static Set<String> items;
+    private static volatile Map<File, Map<String, ItemBuilder>> map;
+    // Flat view of map, the first file defining an id wins
+    private static volatile Map<String, ItemBuilder> itemsById = Collections.emptyMap();
 
     public static void loadItems() {
+        ConfigsManager configsManager = OraxenPlugin.get().getConfigsManager();
+        configsManager.clearItemConfigurations();
         try {
             ItemParser.MODEL_DATAS_BY_ID.clear();
             ModelData.DATAS.clear();
-            OraxenPlugin.get().getConfigsManager().assignAllUsedModelDatas();
-            OraxenPlugin.get().getConfigsManager().parseAllItemTemplates();
+            configsManager.assignAllUsedModelDatas();
+            configsManager.parseAllItemTemplates();
             DuplicationHandler.convertOldMigrateItemConfig();
 
             // Test the environment for common compatibility issues before proceeding
@@ -77,10 +80,13 @@ public class OraxenItems {
                 }
             }
 
-            map = OraxenPlugin.get().getConfigsManager().parseItemConfig();
-            items = new HashSet<>();
-            for (final Map<String, ItemBuilder> subMap : map.values())
-                items.addAll(subMap.keySet());
+            Map<File, Map<String, ItemBuilder>> parsedMap = configsManager.parseItemConfig();
+            Map<String, ItemBuilder> parsedItems = new LinkedHashMap<>();
+            for (final Map<String, ItemBuilder> subMap : parsedMap.values())
+                for (final Entry<String, ItemBuilder> entry : subMap.entrySet())
+                    parsedItems.putIfAbsent(entry.getKey(), entry.getValue());
+            map = parsedMap;
+            itemsById = parsedItems;
 
             ensureComponentDataHandled();
         } catch (Exception e) {
@@ -89,6 +95,8 @@ public class OraxenItems {
             if (Settings.DEBUG.toBool()) {
                 e.printStackTrace();
             }
+        } finally {
+            configsManager.clearItemConfigurations();
         }
     }
 
@@ -109,8 +117,9 @@ public class OraxenItems {
                     if (foodComponent == null)
                         continue;
 
-                    ConfigurationSection section = OraxenYaml.loadConfiguration(entry.getKey())
-                            .getConfigurationSection(itemId + ".Components.food.replacement");
+                    YamlConfiguration configuration = OraxenPlugin.get().getConfigsManager().getItemConfiguration(entry.getKey());
+                    ConfigurationSection section = configuration == null ? null
+                            : configuration.getConfigurationSection(itemId + ".Components.food.replacement");
                     ItemStack replacementItem = parseFoodComponentReplacement(section);
                     // foodComponent.setUsingConvertsTo(replacementItem);
                     itemBuilder.setFoodComponent(foodComponent).regen();
@@ -153,25 +162,23 @@ public class OraxenItems {
     }
 
     public static String getIdByItem(final ItemStack item) {
-        return (item == null || item.getItemMeta() == null || item.getItemMeta().getPersistentDataContainer().isEmpty())
-                ? null
-                : item.getItemMeta().getPersistentDataContainer().get(ITEM_ID, PersistentDataType.STRING);
+        return item == null ? null : NMSHandlers.getHandler().getPersistentDataString(item, ITEM_ID);
     }
 
     public static boolean exists(final String itemId) {
-        return items.contains(itemId);
+        return itemId != null && itemsById.containsKey(itemId);
     }
 
     public static boolean exists(final ItemStack itemStack) {
-        return items.contains(OraxenItems.getIdByItem(itemStack));
+        return exists(OraxenItems.getIdByItem(itemStack));
     }
 
     public static Optional<ItemBuilder> getOptionalItemById(final String id) {
-        return entryStream().filter(entry -> entry.getKey().equals(id)).findFirst().map(Entry::getValue);
+        return Optional.ofNullable(getItemById(id));
     }
 
     public static ItemBuilder getItemById(final String id) {
-        return getOptionalItemById(id).orElse(null);
+        return id != null ? itemsById.get(id) : null;
     }
 
     public static ItemBuilder getBuilderByItem(ItemStack item) {
@@ -215,15 +222,15 @@ public class OraxenItems {
     }
 
     public static Map<String, ItemBuilder> getEntriesAsMap() {
-        return entryStream().collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+        return new LinkedHashMap<>(itemsById);
     }
 
     public static Set<Entry<String, ItemBuilder>> getEntries() {
-        return entryStream().collect(Collectors.toSet());
+        return Collections.unmodifiableSet(itemsById.entrySet());
     }
 
     public static Collection<ItemBuilder> getItems() {
-        return itemStream().toList();
+        return Collections.unmodifiableCollection(itemsById.values());
     }
 
     @Deprecated
@@ -232,7 +239,7 @@ public class OraxenItems {
     }
 
     public static Set<String> getNames() {
-        return nameStream().collect(Collectors.toSet());
+        return new HashSet<>(itemsById.keySet());
     }
 
     public static String[] nameArray() {
@@ -248,14 +255,14 @@ public class OraxenItems {
     }
 
     public static Stream<Entry<String, ItemBuilder>> entryStream() {
-        return map.values().stream().flatMap(map -> map.entrySet().stream());
+        return itemsById.entrySet().stream();
     }
 
     public static String[] getItemNames() {
-        return items.stream().filter(item -> {
-            ItemBuilder builder = OraxenItems.getItemById(item);
+        return entryStream().filter(entry -> {
+            ItemBuilder builder = entry.getValue();
             return builder != null && builder.hasOraxenMeta() && !builder.getOraxenMeta().isExcludedFromCommands();
-        }).toArray(String[]::new);
+        }).map(Entry::getKey).toArray(String[]::new);
     }
 
 }
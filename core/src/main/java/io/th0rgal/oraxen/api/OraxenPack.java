@@ -10,9 +10,7 @@ import io.th0rgal.oraxen.utils.AdventureUtils;
 import io.th0rgal.oraxen.utils.VirtualFile;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
 public class OraxenPack {
 
@@ -25,12 +23,12 @@ public class OraxenPack {
      */
     public static void addFilesToPack(File[] files) {
         for (File file : files) {
-            try (InputStream inputStream = new FileInputStream(file)) {
-                VirtualFile virtualFile = new VirtualFile(file.getParent(), file.getName(), inputStream);
-                ResourcePack.addOutputFiles(virtualFile);
-            } catch (IOException e) {
+            if (!file.isFile() || !file.canRead()) {
                 Message.IO_ERROR_ADD_PACK_FILE.log(AdventureUtils.tagResolver("file", file.getName()));
+                continue;
             }
+            // Read lazily when the pack is zipped
+            ResourcePack.addOutputFiles(new VirtualFile(file.getParent(), file.getName(), file.toPath()));
         }
     }
 
@@ -45,8 +43,19 @@ public class OraxenPack {
     }
 
     public static void reloadPack() {
+        reloadPackAsync();
+    }
+
+    /**
+     * Regenerates the resourcepack
+     *
+     * @return A future completed once the pack has been zipped and uploaded
+     */
+    public static CompletableFuture<File> reloadPackAsync() {
         OraxenPlugin.get().setFontManager(new FontManager(OraxenPlugin.get().getConfigsManager()));
         OraxenPlugin.get().setSoundManager(new SoundManager(OraxenPlugin.get().getConfigsManager().getSound()));
-        OraxenPlugin.get().getResourcePack().generate();
+        ResourcePack resourcePack = OraxenPlugin.get().getResourcePack();
+        resourcePack.generate();
+        return resourcePack.getPackFuture();
     }
 }
@@ -1,27 +1,41 @@
 package io.th0rgal.oraxen.commands;
 
 import dev.jorel.commandapi.CommandAPICommand;
+import dev.jorel.commandapi.arguments.IntegerArgument;
 import dev.jorel.commandapi.arguments.StringArgument;
 import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.config.ConfigsManager;
 import io.th0rgal.oraxen.config.Message;
+import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.nms.NMSHandler;
+import io.th0rgal.oraxen.nms.NMSHandlers;
 import io.th0rgal.oraxen.utils.AdventureUtils;
+import io.th0rgal.oraxen.utils.logs.Logs;
 import io.th0rgal.protectionlib.ProtectionLib;
+import net.kyori.adventure.audience.Audience;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
 
 public class DebugCommand {
 
     CommandAPICommand getDebugCommand() {
         return new CommandAPICommand("debug")
                 .withPermission("oraxen.command.debug")
+                .withSubcommand(getItemIdBenchmarkCommand())
                 .withOptionalArguments(new StringArgument("toggle"))
                 .executes((sender, args) -> {
                     ConfigsManager configsManager = OraxenPlugin.get().getConfigsManager();
                     YamlConfiguration settings = configsManager.getSettings();
                     boolean debugState = args.getOptional("toggle").isPresent() ? Boolean.parseBoolean(args.getOptional("toggle").get().toString()) : !settings.getBoolean("debug", true);
                     settings.set("debug", debugState);
+                    Settings.reload();
                     try {
                         settings.save(configsManager.getSettingsFile());
                         String state = (debugState ? "enabled" : "disabled");
@@ -33,4 +47,56 @@ public class DebugCommand {
                 });
     }
 
+    /**
+     * Microbenchmark comparing the allocation and time per call of reading the Oraxen id
+     * of the held item through its ItemMeta and through the NMS handler
+     */
+    private CommandAPICommand getItemIdBenchmarkCommand() {
+        return new CommandAPICommand("benchmark_itemid")
+                .withPermission("oraxen.command.debug")
+                .withOptionalArguments(new IntegerArgument("iterations", 1000))
+                .executesPlayer((player, args) -> {
+                    int iterations = (int) args.getOptional("iterations").orElse(100_000);
+                    ItemStack item = player.getInventory().getItemInMainHand();
+                    Audience audience = OraxenPlugin.get().getAudience().sender(player);
+                    NMSHandler handler = NMSHandlers.getHandler();
+
+                    // Warm both paths up before measuring
+                    measure(iterations, () -> readIdFromMeta(item));
+                    measure(iterations, () -> handler.getPersistentDataString(item, OraxenItems.ITEM_ID));
+                    long[] meta = measure(iterations, () -> readIdFromMeta(item));
+                    long[] nms = measure(iterations, () -> handler.getPersistentDataString(item, OraxenItems.ITEM_ID));
+
+                    audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<dark_aqua>Oraxen id of held item: <aqua>"
+                            + handler.getPersistentDataString(item, OraxenItems.ITEM_ID) + " <gray>(" + iterations + " iterations)"));
+                    audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<dark_green>ItemMeta: <green>"
+                            + meta[0] / iterations + " ns/op, " + meta[1] / iterations + " B/op"));
+                    audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<dark_green>NMSHandler: <green>"
+                            + nms[0] / iterations + " ns/op, " + nms[1] / iterations + " B/op"));
+                });
+    }
+
+    private static String readIdFromMeta(ItemStack item) {
+        ItemMeta itemMeta = item.getItemMeta();
+        return itemMeta == null ? null : itemMeta.getPersistentDataContainer().get(OraxenItems.ITEM_ID, PersistentDataType.STRING);
+    }
+
+    /**
+     * @return the elapsed nanoseconds and the bytes allocated by the current thread while running the task
+     */
+    private static long[] measure(int iterations, Supplier<String> task) {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int found = 0;
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++)
+            if (task.get() != null) found++;
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        // Keeps the JIT from dropping the calls
+        if (found < 0) Logs.logInfo(String.valueOf(found));
+        return new long[]{elapsed, allocated};
+    }
+
 }
@@ -8,7 +8,10 @@ import dev.jorel.commandapi.arguments.TextArgument;
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.config.Message;
 import io.th0rgal.oraxen.config.ResourcesManager;
+import io.th0rgal.oraxen.pack.dispatch.PackDispatchQueue;
+import io.th0rgal.oraxen.pack.upload.UploadManager;
 import io.th0rgal.oraxen.utils.AdventureUtils;
+import net.kyori.adventure.audience.Audience;
 import org.bukkit.entity.Player;
 
 import java.util.Collection;
@@ -22,6 +25,7 @@ public class PackCommand {
                 .withPermission("oraxen.command.pack")
                 .withSubcommand(sendPackCommand())
                 .withSubcommand(sendPackMessage())
+                .withSubcommand(dispatchQueueStatus())
                 .withSubcommand(extractDefaultPackContent());
 
     }
@@ -48,6 +52,29 @@ public class PackCommand {
                 });
     }
 
+    private CommandAPICommand dispatchQueueStatus() {
+        return new CommandAPICommand("queue")
+                .withPermission("oraxen.command.pack.queue")
+                .executes((sender, args) -> {
+                    Audience audience = OraxenPlugin.get().getAudience().sender(sender);
+                    UploadManager uploadManager = OraxenPlugin.get().getUploadManager();
+                    if (uploadManager == null) {
+                        audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<red>The pack has not been uploaded yet"));
+                        return;
+                    }
+
+                    PackDispatchQueue queue = uploadManager.getDispatchQueue();
+                    int rate = PackDispatchQueue.getRate();
+                    int remaining = queue.getJoiningCount() + queue.getWaitingCount();
+                    audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize("<dark_aqua>Pack dispatch queue: <aqua>"
+                            + queue.getJoiningCount() + "</aqua> joining, <aqua>" + queue.getWaitingCount()
+                            + "</aqua> waiting, <aqua>" + queue.getSentCount() + "</aqua> sent"));
+                    audience.sendMessage(AdventureUtils.MINI_MESSAGE.deserialize(rate <= 0
+                            ? "<dark_aqua>Rate: <aqua>unlimited"
+                            : "<dark_aqua>Rate: <aqua>" + rate + "</aqua>/s, done in <aqua>~" + (remaining + rate - 1) / rate + "s"));
+                });
+    }
+
     private CommandAPICommand extractDefaultPackContent() {
         return new CommandAPICommand("extract_default")
                 .withOptionalArguments(new TextArgument("folder").replaceSuggestions(ArgumentSuggestions.strings("all", "textures", "models", "sounds")))
@@ -13,6 +13,7 @@ import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.hud.HudManager;
 import io.th0rgal.oraxen.items.ItemUpdater;
 import io.th0rgal.oraxen.mechanics.MechanicsManager;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.StringBlockMechanicFactory;
 import io.th0rgal.oraxen.recipes.RecipesManager;
 import io.th0rgal.oraxen.utils.AdventureUtils;
 import io.th0rgal.oraxen.utils.SchedulerUtil;
@@ -94,6 +95,8 @@ public class ReloadCommand {
                         case "RECIPES" -> reloadRecipes(sender);
                         case "CONFIGS" -> OraxenPlugin.get().reloadConfigs();
                         default -> {
+                            // Saplings skipped while waiting are written back before their task is dropped
+                            StringBlockMechanicFactory.unregisterSaplingMechanic();
                             MechanicsManager.unloadListeners();
                             MechanicsManager.unregisterTasks();
                             MechanicsManager.registerNativeMechanics();
@@ -7,10 +7,10 @@ import com.sk89q.worldedit.entity.BaseEntity;
 import com.sk89q.worldedit.entity.Entity;
 import com.sk89q.worldedit.event.extent.EditSessionEvent;
 import com.sk89q.worldedit.extent.AbstractDelegateExtent;
+import com.sk89q.worldedit.function.operation.Operation;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.util.eventbus.Subscribe;
 import com.sk89q.worldedit.world.block.BlockStateHolder;
-import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.api.OraxenBlocks;
 import io.th0rgal.oraxen.api.OraxenFurniture;
 import io.th0rgal.oraxen.config.Settings;
@@ -18,12 +18,10 @@ import io.th0rgal.oraxen.mechanics.Mechanic;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanic;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.StringBlockMechanic;
-import io.th0rgal.oraxen.utils.SchedulerUtil;
 import io.th0rgal.oraxen.utils.VersionUtil;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.EntityType;
 import org.enginehub.linbus.tree.LinCompoundTag;
@@ -36,12 +34,14 @@ import java.util.*;
 
 public class WorldEditHandlers {
 
+    private static final WorldEditQueue queue = new WorldEditQueue();
 
     public WorldEditHandlers(boolean register) {
         if (register) {
             WorldEdit.getInstance().getEventBus().register(this);
         } else {
             WorldEdit.getInstance().getEventBus().unregister(this);
+            queue.clear();
         }
     }
 
@@ -60,8 +60,17 @@ public class WorldEditHandlers {
     public void onEditSession(EditSessionEvent event) {
         if (event.getWorld() == null) return;
 
+        World world = BukkitAdapter.adapt(event.getWorld());
+        WorldEditQueue.Batch batch = new WorldEditQueue.Batch();
         event.setExtent(new AbstractDelegateExtent(event.getExtent()) {
 
+            @Override
+            protected Operation commitBefore() {
+                // Custom blocks are applied once WorldEdit has placed the edited blocks
+                queue.submit(batch);
+                return super.commitBefore();
+            }
+
             @Override
             public Entity createEntity(com.sk89q.worldedit.util.Location location, BaseEntity baseEntity) {
                 if (!Settings.WORLDEDIT_FURNITURE.toBool()) return super.createEntity(location, baseEntity);
@@ -69,7 +78,7 @@ public class WorldEditHandlers {
                 if (!furnitureTypes.contains(baseEntity.getType()))
                     return super.createEntity(location, baseEntity);
 
-                Location bukkitLocation = BukkitAdapter.adapt(BukkitAdapter.adapt(event.getWorld()), location);
+                Location bukkitLocation = BukkitAdapter.adapt(world, location);
                 FurnitureMechanic mechanic = getFurnitureMechanic(baseEntity);
                 if (mechanic == null) return super.createEntity(location, baseEntity);
 
@@ -87,42 +96,30 @@ public class WorldEditHandlers {
                     baseEntity.setNbt(compoundTag);
                 }
 
-                SchedulerUtil.runAtLocationLater(bukkitLocation, 5L, () -> {
-                    EntityType type = BukkitAdapter.adapt(baseEntity.getType());
-                    bukkitLocation.getNearbyEntities(.5, 0.5, 0.5)
-                        .stream()
-                        .filter(e -> e.getType().equals(type))
-                        .min(Comparator.comparingDouble(entity -> entity.getLocation().distanceSquared(bukkitLocation)))
-                        .ifPresent(e -> mechanic.setEntityData(e, e.getLocation().getYaw(), BlockFace.NORTH));
-                });
-
+                batch.furniture(bukkitLocation, mechanic, BukkitAdapter.adapt(baseEntity.getType()));
                 return super.createEntity(location, baseEntity);
             }
 
             @Override
             public <T extends BlockStateHolder<T>> boolean setBlock(BlockVector3 pos, T block) throws WorldEditException {
                 BlockData blockData = BukkitAdapter.adapt(block);
-                World world = BukkitAdapter.adapt(event.getWorld());
-                Location loc = BukkitAdapter.adapt(world, pos);
                 Mechanic mechanic = OraxenBlocks.getOraxenBlock(blockData);
                 if (blockData.getMaterial() == Material.NOTE_BLOCK) {
-                    if (mechanic != null && Settings.WORLDEDIT_NOTEBLOCKS.toBool()) {
-                        SchedulerUtil.runAtLocationLater(loc, 1L, () -> OraxenBlocks.place(mechanic.getItemID(), loc));
-                    }
+                    if (mechanic != null && Settings.WORLDEDIT_NOTEBLOCKS.toBool())
+                        batch.place(world, pos, mechanic.getItemID());
                 } else if (blockData.getMaterial() == Material.TRIPWIRE) {
-                    if (mechanic != null && Settings.WORLDEDIT_STRINGBLOCKS.toBool()) {
-                        SchedulerUtil.runAtLocationLater(loc, 1L, () -> OraxenBlocks.place(mechanic.getItemID(), loc));
-                    }
+                    if (mechanic != null && Settings.WORLDEDIT_STRINGBLOCKS.toBool())
+                        batch.place(world, pos, mechanic.getItemID());
                 } else {
                     if (world == null) return super.setBlock(pos, block);
-                    Mechanic replacingMechanic = OraxenBlocks.getOraxenBlock(loc);
+                    Mechanic replacingMechanic = OraxenBlocks.getOraxenBlock(BukkitAdapter.adapt(world, pos));
                     if (replacingMechanic == null) return super.setBlock(pos, block);
                     if (replacingMechanic instanceof StringBlockMechanic && !Settings.WORLDEDIT_STRINGBLOCKS.toBool())
                         return super.setBlock(pos, block);
                     if (replacingMechanic instanceof NoteBlockMechanic && !Settings.WORLDEDIT_NOTEBLOCKS.toBool())
                         return super.setBlock(pos, block);
 
-                    SchedulerUtil.runAtLocationLater(loc, 1L, () -> OraxenBlocks.remove(loc, null));
+                    batch.remove(world, pos);
                 }
 
                 return super.setBlock(pos, block);
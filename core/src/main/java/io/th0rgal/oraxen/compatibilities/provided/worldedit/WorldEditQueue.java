@@ -0,0 +1,207 @@
+package io.th0rgal.oraxen.compatibilities.provided.worldedit;
+
+import com.sk89q.worldedit.math.BlockVector3;
+import io.th0rgal.oraxen.api.OraxenBlocks;
+import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic;
+import io.th0rgal.oraxen.utils.ChunkKey;
+import io.th0rgal.oraxen.utils.SchedulerUtil;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Applies the custom blocks and furniture of WorldEdit edits once their edit session is flushed.
+ * <p>
+ * Edits are collected per chunk, the last one made to a position winning, and every chunk is
+ * applied by a single task on its region thread. At most {@link #getBlocksPerTick()} edits are
+ * applied per tick, so large edits spread over several ticks instead of scheduling a task per block.
+ */
+public class WorldEditQueue {
+
+    // Pasted furniture entities may only be added to their chunk a few ticks after the paste
+    private static final int FURNITURE_ATTEMPTS = 5;
+
+    private final Map<ChunkKey, ChunkEdits> queued = new LinkedHashMap<>();
+    private SchedulerUtil.ScheduledTask task;
+
+    /**
+     * @return the amount of custom blocks and furniture applied per tick
+     */
+    public static int getBlocksPerTick() {
+        return Math.max(1, (int) Settings.WORLDEDIT_BLOCKS_PER_TICK.getValue());
+    }
+
+    /**
+     * Queues the edits of a flushed edit session.
+     */
+    public void submit(Batch batch) {
+        synchronized (batch) {
+            if (batch.chunks.isEmpty()) return;
+            synchronized (this) {
+                for (ChunkEdits edits : batch.chunks.values()) merge(edits);
+                if (task == null) task = SchedulerUtil.runTaskTimer(1L, 1L, this::tick);
+            }
+            batch.chunks.clear();
+        }
+    }
+
+    public synchronized void clear() {
+        queued.clear();
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    private synchronized void merge(ChunkEdits edits) {
+        ChunkEdits target = queued.computeIfAbsent(edits.key, k -> new ChunkEdits(edits.world, k));
+        target.blocks.putAll(edits.blocks);
+        target.furniture.putAll(edits.furniture);
+    }
+
+    private void tick() {
+        int budget = getBlocksPerTick();
+        synchronized (this) {
+            Iterator<ChunkEdits> iterator = queued.values().iterator();
+            while (budget > 0 && iterator.hasNext()) {
+                ChunkEdits edits = iterator.next();
+                ChunkEdits due = edits.take(budget);
+                budget -= due.size();
+                if (edits.isEmpty()) iterator.remove();
+                // Run block operations on the chunk's region thread for Folia compatibility
+                SchedulerUtil.runAtLocation(due.location(), () -> apply(due));
+            }
+            if (queued.isEmpty() && task != null) {
+                task.cancel();
+                task = null;
+            }
+        }
+    }
+
+    private void apply(ChunkEdits edits) {
+        for (Map.Entry<BlockVector3, String> entry : edits.blocks.entrySet()) {
+            BlockVector3 pos = entry.getKey();
+            Location location = new Location(edits.world, pos.x(), pos.y(), pos.z());
+            if (entry.getValue() != null) OraxenBlocks.place(entry.getValue(), location);
+            else OraxenBlocks.remove(location, null);
+        }
+        if (edits.furniture.isEmpty()) return;
+
+        Entity[] entities = edits.world.getChunkAt(edits.key.x(), edits.key.z()).getEntities();
+        ChunkEdits retries = null;
+        for (Map.Entry<Location, Furniture> entry : edits.furniture.entrySet()) {
+            Location location = entry.getKey();
+            Furniture furniture = entry.getValue();
+            Entity entity = findEntity(entities, location, furniture.type);
+            if (entity != null) furniture.mechanic.setEntityData(entity, entity.getLocation().getYaw(), BlockFace.NORTH);
+            else if (furniture.attempts < FURNITURE_ATTEMPTS) {
+                if (retries == null) retries = new ChunkEdits(edits.world, edits.key);
+                retries.furniture.put(location, new Furniture(furniture.mechanic, furniture.type, furniture.attempts + 1));
+            }
+        }
+        if (retries != null) {
+            synchronized (this) {
+                merge(retries);
+                if (task == null) task = SchedulerUtil.runTaskTimer(1L, 1L, this::tick);
+            }
+        }
+    }
+
+    /**
+     * @return the entity of the given type closest to the location, at most half a block away on every axis
+     */
+    @Nullable
+    private static Entity findEntity(Entity[] entities, Location location, EntityType type) {
+        Entity closest = null;
+        double closestDistance = Double.MAX_VALUE;
+        for (Entity entity : entities) {
+            if (entity.getType() != type) continue;
+            Location entityLocation = entity.getLocation();
+            if (Math.abs(entityLocation.getX() - location.getX()) > 0.5 || Math.abs(entityLocation.getY() - location.getY()) > 0.5
+                    || Math.abs(entityLocation.getZ() - location.getZ()) > 0.5) continue;
+            double distance = entityLocation.distanceSquared(location);
+            if (distance < closestDistance) {
+                closest = entity;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * The edits made through a single extent, queued when its edit session is flushed.
+     */
+    public static class Batch {
+        private final Map<ChunkKey, ChunkEdits> chunks = new LinkedHashMap<>();
+
+        public synchronized void place(World world, BlockVector3 pos, String itemID) {
+            edits(world, pos.x() >> 4, pos.z() >> 4).blocks.put(pos, itemID);
+        }
+
+        public synchronized void remove(World world, BlockVector3 pos) {
+            edits(world, pos.x() >> 4, pos.z() >> 4).blocks.put(pos, null);
+        }
+
+        public synchronized void furniture(Location location, FurnitureMechanic mechanic, EntityType type) {
+            edits(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4)
+                    .furniture.put(location, new Furniture(mechanic, type, 0));
+        }
+
+        private ChunkEdits edits(World world, int x, int z) {
+            return chunks.computeIfAbsent(ChunkKey.of(world, x, z), key -> new ChunkEdits(world, key));
+        }
+    }
+
+    private static final class ChunkEdits {
+        private final World world;
+        private final ChunkKey key;
+        // A null item id removes the custom block at the position
+        private final Map<BlockVector3, String> blocks = new LinkedHashMap<>();
+        private final Map<Location, Furniture> furniture = new LinkedHashMap<>();
+
+        private ChunkEdits(World world, ChunkKey key) {
+            this.world = world;
+            this.key = key;
+        }
+
+        /**
+         * Removes up to the given amount of edits, blocks first.
+         */
+        private ChunkEdits take(int amount) {
+            ChunkEdits taken = new ChunkEdits(world, key);
+            moveFirst(blocks, taken.blocks, amount);
+            moveFirst(furniture, taken.furniture, amount - taken.blocks.size());
+            return taken;
+        }
+
+        private static <K, V> void moveFirst(Map<K, V> from, Map<K, V> to, int amount) {
+            Iterator<Map.Entry<K, V>> iterator = from.entrySet().iterator();
+            while (amount-- > 0 && iterator.hasNext()) {
+                Map.Entry<K, V> entry = iterator.next();
+                to.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        private int size() {
+            return blocks.size() + furniture.size();
+        }
+
+        private boolean isEmpty() {
+            return blocks.isEmpty() && furniture.isEmpty();
+        }
+
+        private Location location() {
+            return new Location(world, key.x() << 4, 0, key.z() << 4);
+        }
+    }
+
+    private record Furniture(FurnitureMechanic mechanic, EntityType type, int attempts) {
+    }
+}
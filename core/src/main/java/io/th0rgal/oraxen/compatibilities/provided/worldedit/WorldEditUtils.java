@@ -28,17 +28,46 @@ import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class WorldEditUtils {
 
+    // Schematics are read once and reused until the file changes
+    private static final Map<File, CachedClipboard> CLIPBOARDS = new ConcurrentHashMap<>();
+
     private WorldEditUtils() {}
 
+    private record CachedClipboard(long lastModified, long length, Clipboard clipboard) {
+    }
+
+    @Nullable
+    private static Clipboard readClipboard(File schematic) {
+        long lastModified = schematic.lastModified();
+        long length = schematic.length();
+        CachedClipboard cached = CLIPBOARDS.get(schematic);
+        if (cached != null && cached.lastModified == lastModified && cached.length == length)
+            return cached.clipboard;
+
+        ClipboardFormat clipboardFormat = ClipboardFormats.findByFile(schematic);
+        if (clipboardFormat == null) return null;
+        try (FileInputStream inputStream = new FileInputStream(schematic);
+             ClipboardReader reader = clipboardFormat.getReader(inputStream)) {
+            Clipboard clipboard = reader.read();
+            CLIPBOARDS.put(schematic, new CachedClipboard(lastModified, length, clipboard));
+            return clipboard;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     protected static class OraxenBlockInputParser extends InputParser<BaseBlock> {
 
         public OraxenBlockInputParser() {
@@ -110,15 +139,8 @@ public class WorldEditUtils {
     }
 
     protected static void pasteSchematic(Location loc, File schematic, Boolean replaceBlocks, Boolean shouldCopyBiomes, Boolean shouldCopyEntities) {
-        ClipboardFormat clipboardFormat = ClipboardFormats.findByFile(schematic);
-        if (clipboardFormat == null) return;
-        Clipboard clipboard;
-
-        try (final FileInputStream inputStream = new FileInputStream(schematic); ClipboardReader reader = clipboardFormat.getReader(inputStream)) {
-            clipboard = reader.read();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        Clipboard clipboard = readClipboard(schematic);
+        if (clipboard == null) return;
 
         try {
             World world = loc.getWorld();
@@ -130,7 +152,7 @@ public class WorldEditUtils {
                     .copyBiomes(shouldCopyBiomes).copyEntities(shouldCopyEntities).ignoreAirBlocks(true).build();
 
             try {
-                if (replaceBlocks || getBlocksInSchematic(clipboard, loc).isEmpty())
+                if (replaceBlocks || !hasBlocksInSchematic(clipboard, loc))
                     Operations.complete(operation);
                 editSession.close();
             } catch (WorldEditException e) {
@@ -143,27 +165,26 @@ public class WorldEditUtils {
         }
     }
 
-    private static List<Block> getBlocksInSchematic(Clipboard clipboard, Location loc) {
-        return collectBlocksFromClipboard(clipboard, loc);
+    private static boolean hasBlocksInSchematic(Clipboard clipboard, Location loc) {
+        return !collectBlocksFromClipboard(clipboard, loc, true).isEmpty();
     }
 
     public static List<Block> getBlocksInSchematic(Location loc, File schematic) {
         World world = loc.getWorld();
         if (world == null) return new ArrayList<>();
 
-        ClipboardFormat clipboardFormat = ClipboardFormats.findByFile(schematic);
-        if (clipboardFormat == null) return new ArrayList<>();
+        Clipboard clipboard = readClipboard(schematic);
+        if (clipboard == null) return new ArrayList<>();
+        return collectBlocksFromClipboard(clipboard, loc, false);
+    }
 
-        try (FileInputStream inputStream = new FileInputStream(schematic);
-             ClipboardReader reader = clipboardFormat.getReader(inputStream)) {
-            Clipboard clipboard = reader.read();
-            return collectBlocksFromClipboard(clipboard, loc);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    public static boolean hasBlocksInSchematic(Location loc, File schematic) {
+        if (loc.getWorld() == null) return false;
+        Clipboard clipboard = readClipboard(schematic);
+        return clipboard != null && hasBlocksInSchematic(clipboard, loc);
     }
 
-    private static List<Block> collectBlocksFromClipboard(Clipboard clipboard, Location loc) {
+    private static List<Block> collectBlocksFromClipboard(Clipboard clipboard, Location loc, boolean firstOnly) {
         List<Block> list = new ArrayList<>();
         World world = loc.getWorld();
         if (world == null) return list;
@@ -171,15 +192,22 @@ public class WorldEditUtils {
         BlockVector3 min = clipboard.getMinimumPoint();
         BlockVector3 max = clipboard.getMaximumPoint();
         BlockVector3 origin = clipboard.getOrigin();
+        int baseX = loc.getBlockX();
+        int baseY = loc.getBlockY();
+        int baseZ = loc.getBlockZ();
 
         for (int x = min.x(); x <= max.x(); x++) {
             for (int y = min.y(); y <= max.y(); y++) {
                 for (int z = min.z(); z <= max.z(); z++) {
-                    Location offset = new Location(world, x - origin.x(), y - origin.y(), z - origin.z());
-                    Block block = world.getBlockAt(loc.clone().add(offset));
+                    int dx = x - origin.x();
+                    int dy = y - origin.y();
+                    int dz = z - origin.z();
+                    // The sapling itself is replaced by the schematic
+                    if (dx == 0 && dy == 0 && dz == 0) continue;
+                    Block block = world.getBlockAt(baseX + dx, baseY + dy, baseZ + dz);
                     if (BlockHelpers.isReplaceable(block)) continue;
-                    if (BlockHelpers.toBlockLocation(loc).equals(BlockHelpers.toBlockLocation(block.getLocation()))) continue;
                     list.add(block);
+                    if (firstOnly) return list;
                 }
             }
         }
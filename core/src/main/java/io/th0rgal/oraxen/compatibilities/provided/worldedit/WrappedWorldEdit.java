@@ -45,4 +45,11 @@ public class WrappedWorldEdit {
         if (loaded) return WorldEditUtils.getBlocksInSchematic(loc, schematic);
         else return new ArrayList<>();
     }
+
+    /**
+     * Same as checking {@link #getBlocksInSchematic(Location, File)} is not empty, stopping at the first block found
+     */
+    public static boolean hasBlocksInSchematic(Location loc, File schematic) {
+        return loaded && WorldEditUtils.hasBlocksInSchematic(loc, schematic);
+    }
 }
@@ -18,8 +18,10 @@ import io.th0rgal.oraxen.utils.logs.Logs;
 import org.apache.commons.io.FileUtils;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
@@ -65,6 +67,14 @@ public class ConfigsManager {
     private File glyphsFolder;
     private File schematicsFolder;
     private File gesturesFolder;
+    /**
+     * Item files parsed during the current item load, so every loading stage reuses the same parse.
+     * Entries are only reused while the file keeps the modification time and size it was parsed with.
+     */
+    private final Map<File, ParsedYaml> itemConfigurations = new HashMap<>();
+
+    private record ParsedYaml(long lastModified, long length, @Nullable YamlConfiguration configuration) {
+    }
 
     public ConfigsManager(JavaPlugin plugin) {
         this.plugin = plugin;
@@ -135,6 +145,7 @@ public class ConfigsManager {
         ResourcesManager tempManager = new ResourcesManager(OraxenPlugin.get());
         mechanics = validate(tempManager, "mechanics.yml", defaultMechanics);
         settings = validate(tempManager, "settings.yml", defaultSettings);
+        Settings.reload();
         font = validate(tempManager, "font.yml", defaultFont);
         hud = validate(tempManager, "hud.yml", defaultHud);
         sound = validate(tempManager, "sound.yml", defaultSound);
@@ -578,6 +589,54 @@ public class ConfigsManager {
         return (char) min;
     }
 
+    /**
+     * Parses an item file, or returns the configuration parsed earlier during this load if the file is unchanged.
+     * Stages modifying the returned configuration must save it and call {@link #cacheItemConfiguration(File, YamlConfiguration)}
+     * or {@link #invalidateItemConfiguration(File)}
+     *
+     * @return the configuration, or null if the file is not valid yaml
+     */
+    @Nullable
+    public YamlConfiguration getItemConfiguration(File file) {
+        ParsedYaml parsed = itemConfigurations.get(file);
+        if (parsed != null && parsed.lastModified() == file.lastModified() && parsed.length() == file.length())
+            return parsed.configuration();
+
+        long lastModified = file.lastModified();
+        long length = file.length();
+        YamlConfiguration configuration = new YamlConfiguration();
+        try {
+            configuration.load(file);
+        } catch (InvalidConfigurationException e) {
+            Logs.logError("Error loading YAML configuration file: " + file.getPath());
+            Logs.logError("Ensure that your config is formatted correctly:");
+            Logs.logWarning(e.getMessage());
+            configuration = null;
+        } catch (Exception e) {
+            configuration = null;
+        }
+        itemConfigurations.put(file, new ParsedYaml(lastModified, length, configuration));
+        return configuration;
+    }
+
+    /**
+     * Records a configuration that was just saved to the given file as its current parse
+     */
+    public void cacheItemConfiguration(File file, YamlConfiguration configuration) {
+        itemConfigurations.put(file, new ParsedYaml(file.lastModified(), file.length(), configuration));
+    }
+
+    public void invalidateItemConfiguration(File file) {
+        itemConfigurations.remove(file);
+    }
+
+    /**
+     * Releases the item files parsed during the last load
+     */
+    public void clearItemConfigurations() {
+        itemConfigurations.clear();
+    }
+
     public Map<File, Map<String, ItemBuilder>> parseItemConfig() {
         Map<File, Map<String, ItemBuilder>> parseMap = new LinkedHashMap<>();
         ItemBuilder errorItem = new ItemParser(Settings.ERROR_ITEM.toConfigSection()).buildItem();
@@ -589,9 +648,9 @@ public class ConfigsManager {
     public void assignAllUsedModelDatas() {
         Map<Material, Map<Integer, String>> assignedModelDatas = new HashMap<>();
         for (File file : getItemFiles()) {
-            if (!file.exists())
+            YamlConfiguration configuration = getItemConfiguration(file);
+            if (configuration == null)
                 continue;
-            YamlConfiguration configuration = OraxenYaml.loadConfiguration(file);
             boolean fileChanged = false;
 
             for (String key : configuration.getKeys(false)) {
@@ -636,9 +695,11 @@ public class ConfigsManager {
             if (fileChanged) {
                 try {
                     configuration.save(file);
+                    cacheItemConfiguration(file, configuration);
                 } catch (IOException e) {
                     Logs.logWarning("Failed to save updated item file: " + file.getName());
                     Logs.debug(e);
+                    invalidateItemConfiguration(file);
                 }
             }
         }
@@ -646,11 +707,20 @@ public class ConfigsManager {
 
     public void parseAllItemTemplates() {
         for (File file : getItemFiles()) {
-            if (file == null || !file.exists())
+            YamlConfiguration configuration = file != null ? getItemConfiguration(file) : null;
+            if (configuration == null)
                 continue;
-            YamlConfiguration configuration = OraxenYaml.loadConfiguration(file);
-            for (String key : configuration.getKeys(false)) {
+            boolean hasTemplates = configuration.getKeys(false).stream().anyMatch(key -> {
                 ConfigurationSection itemSection = configuration.getConfigurationSection(key);
+                return itemSection != null && itemSection.isBoolean("template");
+            });
+            if (!hasTemplates)
+                continue;
+
+            // Registering a template modifies its section, which must not end up in the cached configuration saved back to the file
+            YamlConfiguration templates = OraxenYaml.loadConfiguration(file);
+            for (String key : templates.getKeys(false)) {
+                ConfigurationSection itemSection = templates.getConfigurationSection(key);
                 if (itemSection != null && itemSection.isBoolean("template"))
                     ItemTemplate.register(itemSection);
             }
@@ -666,7 +736,9 @@ public class ConfigsManager {
     }
 
     public Map<String, ItemBuilder> parseItemConfig(File itemFile, ItemBuilder errorItem) {
-        YamlConfiguration config = OraxenYaml.loadConfiguration(itemFile);
+        YamlConfiguration config = getItemConfiguration(itemFile);
+        if (config == null)
+            config = OraxenYaml.loadConfiguration(itemFile);
         Map<String, ItemParser> parseMap = new LinkedHashMap<>();
 
         for (String itemKey : config.getKeys(false)) {
@@ -697,6 +769,8 @@ public class ConfigsManager {
         }
 
         if (configUpdated) {
+            // The saved content differs from the parsed configuration, later stages have to parse it again
+            invalidateItemConfiguration(itemFile);
             String content = config.saveToString();
             if (VersionUtil.atOrAbove("1.20.5"))
                 content = content.replace("displayname: ", "itemname: ");
@@ -722,8 +796,8 @@ public class ConfigsManager {
     private List<File> getItemFiles() {
         if (itemsFolder == null || !itemsFolder.exists())
             return new ArrayList<>();
-        return FileUtils.listFiles(itemsFolder, new String[] { "yml" }, true).stream().filter(OraxenYaml::isValidYaml)
-                .sorted().toList();
+        return FileUtils.listFiles(itemsFolder, new String[] { "yml" }, true).stream()
+                .filter(file -> getItemConfiguration(file) != null).sorted().toList();
     }
 
     private List<File> getGlyphFiles() {
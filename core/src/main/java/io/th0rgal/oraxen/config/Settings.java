@@ -31,6 +31,7 @@ public enum Settings {
     WORLDEDIT_NOTEBLOCKS("WorldEdit.noteblock_mechanic"),
     WORLDEDIT_STRINGBLOCKS("WorldEdit.stringblock_mechanic"),
     WORLDEDIT_FURNITURE("WorldEdit.furniture_mechanic"),
+    WORLDEDIT_BLOCKS_PER_TICK("WorldEdit.blocks_per_tick"),
 
     // Glyphs
     GLYPH_HANDLER("Glyphs.glyph_handler"),
@@ -68,6 +69,7 @@ public enum Settings {
     // Custom Blocks
     BLOCK_CORRECTION("CustomBlocks.block_correction"),
     LEGACY_NOTEBLOCKS("CustomBlocks.use_legacy_noteblocks"),
+    STORAGE_SAVE_INTERVAL("CustomBlocks.storage_save_interval"),
 
     // ItemUpdater
     UPDATE_ITEMS("ItemUpdater.update_items"),
@@ -105,6 +107,7 @@ public enum Settings {
     GENERATE_MODEL_BASED_ON_TEXTURE_PATH("Pack.generation.auto_generated_models_follow_texture_path"),
     COMPRESSION("Pack.generation.compression"),
     PROTECTION("Pack.generation.protection"),
+    PACK_BUILD_CACHE("Pack.generation.build_cache"),
     // 1.21.4+ appearance systems (can be combined)
     APPEARANCE_ITEM_PROPERTIES("Pack.generation.appearance.item_properties"),
     APPEARANCE_MODEL_DATA_IDS("Pack.generation.appearance.model_data_ids"),
@@ -132,6 +135,7 @@ public enum Settings {
     SEND_PACK("Pack.dispatch.send_pack"),
     SEND_ON_RELOAD("Pack.dispatch.send_on_reload"),
     SEND_PACK_DELAY("Pack.dispatch.delay"),
+    SEND_PACK_RATE("Pack.dispatch.rate"),
     SEND_PACK_MANDATORY("Pack.dispatch.mandatory"),
     SEND_PACK_PROMPT("Pack.dispatch.prompt"),
     SEND_JOIN_MESSAGE("Pack.dispatch.join_message.enabled"),
@@ -158,6 +162,7 @@ public enum Settings {
     ORAXEN_INV_EXIT("oraxen_inventory.exit_icon");
 
     private final String path;
+    private static volatile Snapshot snapshot;
 
     Settings(String path) {
         this.path = path;
@@ -167,13 +172,29 @@ public enum Settings {
         return path;
     }
 
+    /**
+     * Recompiles the values of all settings, to be called whenever settings.yml was modified in memory
+     */
+    public static void reload() {
+        snapshot = new Snapshot(OraxenPlugin.get().getConfigsManager().getSettings());
+    }
+
+    private static Snapshot snapshot() {
+        Snapshot current = snapshot;
+        YamlConfiguration settings = OraxenPlugin.get().getConfigsManager().getSettings();
+        if (current == null || current.source != settings)
+            snapshot = current = new Snapshot(settings);
+        return current;
+    }
+
     public Object getValue() {
-        return OraxenPlugin.get().getConfigsManager().getSettings().get(path);
+        return snapshot().values[ordinal()];
     }
     public void setValue(Object value) { setValue(value, true); }
     public void setValue(Object value, boolean save) {
         YamlConfiguration settingFile = OraxenPlugin.get().getConfigsManager().getSettings();
         settingFile.set(path, value);
+        reload();
         try {
             if (save) settingFile.save(OraxenPlugin.get().getDataFolder().toPath().resolve("settings.yml").toFile());
         } catch (Exception e) {
@@ -187,19 +208,51 @@ public enum Settings {
     }
 
     public Component toComponent() {
-        return AdventureUtils.MINI_MESSAGE.deserialize(getValue().toString());
+        Snapshot current = snapshot();
+        Component component = current.components[ordinal()];
+        if (component == null)
+            current.components[ordinal()] = component = AdventureUtils.MINI_MESSAGE.deserialize(getValue().toString());
+        return component;
     }
 
     public Boolean toBool() {
         return (Boolean) getValue();
     }
 
+    /**
+     * @return an unmodifiable view of the list
+     */
     public List<String> toStringList() {
-        return OraxenPlugin.get().getConfigsManager().getSettings().getStringList(path);
+        return snapshot().stringLists[ordinal()];
     }
 
     public ConfigurationSection toConfigSection() {
-        return OraxenPlugin.get().getConfigsManager().getSettings().getConfigurationSection(path);
+        return getValue() instanceof ConfigurationSection section ? section : null;
+    }
+
+    /**
+     * Values of every setting, resolved once from settings.yml instead of walking its sections on every access.
+     * A new snapshot is swapped in whenever the settings are reloaded or modified through {@link #setValue(Object)}
+     */
+    private static final class Snapshot {
+        private final YamlConfiguration source;
+        private final Object[] values;
+        private final List<String>[] stringLists;
+        // Deserialized lazily, most settings are never read as components
+        private final Component[] components;
+
+        @SuppressWarnings("unchecked")
+        private Snapshot(YamlConfiguration source) {
+            Settings[] settings = Settings.values();
+            this.source = source;
+            this.values = new Object[settings.length];
+            this.stringLists = new List[settings.length];
+            this.components = new Component[settings.length];
+            for (Settings setting : settings) {
+                values[setting.ordinal()] = source.get(setting.path);
+                stringLists[setting.ordinal()] = List.copyOf(source.getStringList(setting.path));
+            }
+        }
     }
 
 }
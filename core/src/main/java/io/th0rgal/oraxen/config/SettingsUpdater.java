@@ -17,6 +17,7 @@ public class SettingsUpdater {
 
         settings = updateKeys(settings, UpdatedSettings.toStringMap());
         settings = removeKeys(settings, RemovedSettings.toStringList());
+        Settings.reload();
 
         if (settings.saveToString().equals(oldSettings)) return;
 
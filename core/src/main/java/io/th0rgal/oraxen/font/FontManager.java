@@ -32,6 +32,7 @@ public class FontManager {
     public final String permsChatcolor;
     public static Map<String, GlyphBitMap> glyphBitMaps = new HashMap<>();
     private final Map<String, Glyph> glyphMap;
+    private final GlyphMatcher<Glyph> glyphMatcher;
     private final Map<String, Glyph> glyphByPlaceholder;
     private final Map<Character, String> reverse;
     private final FontEvents fontEvents;
@@ -78,6 +79,7 @@ public class FontManager {
         loadGlyphs(glyphOutput.glyphs());
         loadReferenceGlyphs(glyphOutput.referenceGlyphs());
         loadAnimatedGlyphs(glyphOutput.animatedGlyphs());
+        glyphMatcher = createGlyphMatcher();
 
         // Load text effects configuration from settings
         loadTextEffectsConfig();
@@ -142,6 +144,19 @@ public class FontManager {
         }
     }
 
+    private GlyphMatcher<Glyph> createGlyphMatcher() {
+        GlyphMatcher<Glyph> matcher = new GlyphMatcher<>();
+        for (Glyph glyph : glyphMap.values()) {
+            matcher.addTag(glyph.getName(), glyph);
+            for (String placeholder : glyph.getPlaceholders())
+                matcher.addPlaceholder(placeholder, glyph);
+            // Glyphs with empty chars have no character to match
+            String character = glyph.getCharacter();
+            if (!character.isEmpty()) matcher.addCharacter(character.charAt(0), glyph);
+        }
+        return matcher.build();
+    }
+
     /**
      * Loads reference glyphs and resolves their source references.
      */
@@ -217,6 +232,13 @@ public class FontManager {
         return glyphMap.values();
     }
 
+    /**
+     * @return the matcher finding the tags, placeholders and characters of every glyph in a text
+     */
+    public GlyphMatcher<Glyph> getGlyphMatcher() {
+        return glyphMatcher;
+    }
+
     public final Collection<Glyph> getEmojis() {
         return glyphMap.values().stream().filter(Glyph::isEmoji).toList();
     }
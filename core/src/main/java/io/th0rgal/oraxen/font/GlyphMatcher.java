@@ -0,0 +1,228 @@
+package io.th0rgal.oraxen.font;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds glyph tags, placeholders and characters in a text in a single pass.
+ * <p>
+ * Every placeholder, {@code <glyph:name} / {@code <g:name} tag opening and glyph character
+ * is added to an Aho-Corasick automaton once per font load, so scanning a text costs the
+ * same no matter how many glyphs are registered. Overlapping matches resolve to the
+ * leftmost, then longest one.
+ *
+ * @param <T> the glyph type the matches resolve to
+ */
+public class GlyphMatcher<T> {
+
+    public enum Kind {
+        TAG, PLACEHOLDER, CHARACTER
+    }
+
+    /**
+     * @param start   the index of the first character of the match
+     * @param end     the index after the last character of the match
+     * @param escaped whether the tag or placeholder is preceded by a backslash
+     */
+    public record Match<T>(int start, int end, T glyph, Kind kind, boolean escaped) {
+    }
+
+    private static final Comparator<Match<?>> LEFTMOST_LONGEST =
+            Comparator.<Match<?>>comparingInt(Match::start).thenComparing(Comparator.<Match<?>>comparingInt(Match::end).reversed());
+
+    private final Node root = new Node(0);
+    private boolean built;
+
+    public GlyphMatcher<T> addTag(String glyphName, T glyph) {
+        add("<glyph:" + glyphName, glyph, Kind.TAG);
+        add("<g:" + glyphName, glyph, Kind.TAG);
+        return this;
+    }
+
+    public GlyphMatcher<T> addPlaceholder(String placeholder, T glyph) {
+        if (!placeholder.isEmpty()) add(placeholder, glyph, Kind.PLACEHOLDER);
+        return this;
+    }
+
+    public GlyphMatcher<T> addCharacter(char character, T glyph) {
+        add(String.valueOf(character), glyph, Kind.CHARACTER);
+        return this;
+    }
+
+    private void add(String key, T glyph, Kind kind) {
+        if (built) throw new IllegalStateException("GlyphMatcher is already built");
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            int depth = i + 1;
+            node = node.building.computeIfAbsent(key.charAt(i), c -> new Node(depth));
+        }
+        // The first glyph registered for a key keeps it
+        if (node.entries.stream().noneMatch(entry -> entry.kind == kind))
+            node.entries.add(new Entry(glyph, kind));
+    }
+
+    /**
+     * Freezes the automaton, no keys can be added afterwards.
+     */
+    public GlyphMatcher<T> build() {
+        if (built) return this;
+        built = true;
+
+        Deque<Node> queue = new ArrayDeque<>();
+        root.freeze();
+        for (Node child : root.children) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            node.freeze();
+            for (int i = 0; i < node.keys.length; i++) {
+                char c = node.keys[i];
+                Node child = node.children[i];
+                Node fail = node.fail;
+                while (fail != root && fail.child(c) == null) fail = fail.fail;
+                Node target = fail.child(c);
+                child.fail = target != null ? target : root;
+                child.output = !child.fail.entries.isEmpty() ? child.fail : child.fail.output;
+                queue.add(child);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Same as checking that {@link #find(String, boolean)} does not return an empty list, but stops
+     * scanning at the first match instead of collecting them all.
+     *
+     * @param characters whether raw glyph characters should be matched too
+     * @return whether the text contains any glyph tag, placeholder or, if requested, glyph character
+     */
+    public boolean anyMatch(String text, boolean characters) {
+        if (!built) throw new IllegalStateException("GlyphMatcher is not built");
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (Node node = state.entries.isEmpty() ? state.output : state; node != null; node = node.output) {
+                for (Entry entry : node.entries) {
+                    if (entry.kind == Kind.CHARACTER && !characters) continue;
+                    if (match(text, i + 1 - node.depth, i + 1, entry) != null) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param characters whether raw glyph characters should be matched too
+     * @return the non-overlapping matches in the text, in order
+     */
+    public List<Match<T>> find(String text, boolean characters) {
+        if (!built) throw new IllegalStateException("GlyphMatcher is not built");
+        List<Match<T>> candidates = null;
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (Node node = state.entries.isEmpty() ? state.output : state; node != null; node = node.output) {
+                for (Entry entry : node.entries) {
+                    if (entry.kind == Kind.CHARACTER && !characters) continue;
+                    Match<T> match = match(text, i + 1 - node.depth, i + 1, entry);
+                    if (match == null) continue;
+                    if (candidates == null) candidates = new ArrayList<>();
+                    candidates.add(match);
+                }
+            }
+        }
+        if (candidates == null) return List.of();
+        if (candidates.size() == 1) return candidates;
+
+        candidates.sort(LEFTMOST_LONGEST);
+        List<Match<T>> matches = new ArrayList<>();
+        int end = 0;
+        for (Match<T> match : candidates) {
+            if (match.start < end) continue;
+            matches.add(match);
+            end = match.end;
+        }
+        return matches;
+    }
+
+    private Node next(Node state, char c) {
+        Node next = state.child(c);
+        while (next == null && state != root) {
+            state = state.fail;
+            next = state.child(c);
+        }
+        return next != null ? next : root;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Match<T> match(String text, int start, int end, Entry entry) {
+        if (entry.kind == Kind.TAG) {
+            end = tagEnd(text, end);
+            if (end < 0) return null;
+        }
+        boolean escaped = entry.kind != Kind.CHARACTER && start > 0 && text.charAt(start - 1) == '\\';
+        return new Match<>(start, end, (T) entry.glyph, entry.kind, escaped);
+    }
+
+    /**
+     * Matches the remainder of a glyph tag after its name, any amount of {@code :argument} followed by {@code >}.
+     *
+     * @return the index after the closing bracket, or -1 if it is not a complete tag
+     */
+    private static int tagEnd(String text, int index) {
+        while (index < text.length()) {
+            char c = text.charAt(index);
+            if (c == '>') return index + 1;
+            if (c != ':') return -1;
+            int argumentStart = ++index;
+            while (index < text.length() && text.charAt(index) != ':' && text.charAt(index) != '>') index++;
+            if (index == argumentStart) return -1;
+        }
+        return -1;
+    }
+
+    private record Entry(Object glyph, Kind kind) {
+    }
+
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final int depth;
+        private final List<Entry> entries = new ArrayList<>(1);
+        private Map<Character, Node> building = new HashMap<>();
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Node fail;
+        // Closest node down the failure links that completes a key
+        private Node output;
+
+        private Node(int depth) {
+            this.depth = depth;
+        }
+
+        private void freeze() {
+            if (building == null) return;
+            keys = new char[building.size()];
+            int i = 0;
+            for (char key : building.keySet()) keys[i++] = key;
+            Arrays.sort(keys);
+            children = new Node[keys.length];
+            for (i = 0; i < keys.length; i++) children[i] = building.get(keys[i]);
+            building = null;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityAirChangeEvent;
 import org.bukkit.event.player.PlayerGameModeChangeEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.persistence.PersistentDataContainer;
 
 public class HudEvents implements Listener {
@@ -42,6 +43,11 @@ public class HudEvents implements Listener {
         hudManager.updateHud(player);
     }
 
+    @EventHandler
+    public void onQuit(final PlayerQuitEvent event) {
+        OraxenPlugin.get().getHudManager().clearSentHud(event.getPlayer());
+    }
+
     @EventHandler
     public void onEnterWater(final EntityAirChangeEvent event) {
         if (event.getEntityType() != EntityType.PLAYER) return;
@@ -17,9 +17,14 @@ import org.bukkit.persistence.PersistentDataType;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class HudManager {
 
+    // Action bars stay fully visible for about two seconds before fading out
+    private static final long ACTION_BAR_MILLIS = 2000;
+
     public final int hudUpdateTime;
     public final NamespacedKey hudToggleKey;
     public final NamespacedKey hudDisplayKey;
@@ -27,6 +32,11 @@ public class HudManager {
     private static HudTask hudTask;
     private static boolean hudTaskEnabled;
     private final Map<String, Hud> huds;
+    private final Map<Hud, String> hudIds;
+    // Last action bar sent to each player, to skip resending an unchanged HUD
+    private final Map<UUID, SentHud> sentHuds = new ConcurrentHashMap<>();
+    // Templates without placeholders always deserialize to the same component
+    private final Map<String, Component> staticComponents = new ConcurrentHashMap<>();
 
     public HudManager(final ConfigsManager hudManager) {
         final ConfigurationSection hudSection = getHudConfigSection();
@@ -36,6 +46,7 @@ public class HudManager {
         hudToggleKey = new NamespacedKey(OraxenPlugin.get(), "hud_toggle");
         hudDisplayKey = new NamespacedKey(OraxenPlugin.get(), "hud_display");
         huds = new HashMap<>();
+        hudIds = new HashMap<>();
         parsedHudDisplays = new HashMap<>();
         if (hudSection != null)
             loadHuds(hudSection);
@@ -62,12 +73,7 @@ public class HudManager {
     public Hud getHudFromID(final String id) {return huds.get(id);}
 
     public String getHudID(Hud hud) {
-        for (Map.Entry<String, Hud> entry : huds.entrySet()) {
-            if (entry.getValue().equals(hud)) {
-                return entry.getKey();
-            }
-        }
-        return null;
+        return hud == null ? null : hudIds.get(hud);
     }
 
     public boolean hasActiveHud(Player player) {
@@ -99,9 +105,17 @@ public class HudManager {
     }
 
     public void disableHud(final Player player) {
+        sentHuds.remove(player.getUniqueId());
         player.sendActionBar(Component.empty());
     }
 
+    /**
+     * Forgets the last HUD sent to a player, so the next update is sent even if unchanged.
+     */
+    public void clearSentHud(final Player player) {
+        sentHuds.remove(player.getUniqueId());
+    }
+
     public void enableHud(final Player player, Hud hud) {
         if (hud == null) {
             Logs.logWarning("[HUD] HUD is null for player " + player.getName());
@@ -121,18 +135,31 @@ public class HudManager {
             Logs.logWarning("[HUD] No parsed HUD display found for HUD with text: " + hud.getDisplayText());
             return;
         }
-        hudDisplay = translatePlaceholdersForHudDisplay(player, hudDisplay);
-        hudDisplay = AdventureUtils.parseLegacy(hudDisplay);
-        
+        boolean hasPlaceholders = hudDisplay.indexOf('%') >= 0;
+        if (hasPlaceholders) hudDisplay = translatePlaceholdersForHudDisplay(player, hudDisplay);
+
+        long now = System.currentTimeMillis();
+        SentHud sent = sentHuds.get(player.getUniqueId());
+        boolean unchanged = sent != null && sent.text.equals(hudDisplay);
+        // Resend an unchanged HUD only if the current action bar would fade before the next update
+        if (unchanged && now - sent.sentAt + hudUpdateTime * 50L < ACTION_BAR_MILLIS) return;
+
         try {
-            var component = AdventureUtils.MINI_MESSAGE.deserialize(hudDisplay);
+            Component component = unchanged ? sent.component
+                    : hasPlaceholders ? deserializeHudDisplay(hudDisplay)
+                    : staticComponents.computeIfAbsent(hudDisplay, HudManager::deserializeHudDisplay);
             player.sendActionBar(component);
+            sentHuds.put(player.getUniqueId(), new SentHud(hudDisplay, component, now));
         } catch (Exception e) {
             Logs.logWarning("[HUD] Failed to send actionbar: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    private static Component deserializeHudDisplay(String hudDisplay) {
+        return AdventureUtils.MINI_MESSAGE.deserialize(AdventureUtils.parseLegacy(hudDisplay));
+    }
+
     public void registerTask() {
         if (hudTaskEnabled) {
             Logs.logWarning("[HUD] Task already enabled");
@@ -170,6 +197,9 @@ public class HudManager {
             return;
         }
         huds.clear();
+        hudIds.clear();
+        sentHuds.clear();
+        staticComponents.clear();
         for (final String hudName : section.getKeys(false)) {
             final ConfigurationSection hudSection = section.getConfigurationSection(hudName);
             if (hudSection == null || hudSection.getKeys(false).isEmpty()) {
@@ -186,11 +216,15 @@ public class HudManager {
                     hudSection.getBoolean("enable_for_spectator_mode", false)
             )));
         }
+        huds.forEach((id, hud) -> hudIds.putIfAbsent(hud, id));
         parsedHudDisplays = generateHudDisplays();
     }
 
     public Map<Hud, String> parsedHudDisplays;
 
+    private record SentHud(String text, Component component, long sentAt) {
+    }
+
     public Map<Hud, String> generateHudDisplays() {
         Map<Hud, String> hudDisplays = new HashMap<>();
         for (Map.Entry<String, Hud> entry : huds.entrySet()) {
@@ -7,19 +7,26 @@ import io.th0rgal.oraxen.utils.logs.Logs;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Updates the HUD of every player once per period.
+ * <p>
+ * The task runs every tick and only handles the players whose shard matches the tick,
+ * spreading updates evenly over the period instead of updating everyone on the same tick.
+ */
 public class HudTask implements Runnable {
 
     private final HudManager manager = OraxenPlugin.get().getHudManager();
     private SchedulerUtil.ScheduledTask scheduledTask;
-
-    private List<? extends Player> hudEnabledPlayers() {
-        return Bukkit.getOnlinePlayers().stream().filter(manager::getHudState).toList();
-    }
+    private int period = 1;
+    private long tick;
 
     public void start(long delay, long period) {
-        scheduledTask = SchedulerUtil.runTaskTimer(delay, period, this);
+        this.period = (int) Math.max(1, period);
+        this.tick = 0;
+        scheduledTask = SchedulerUtil.runTaskTimer(delay, 1L, this);
     }
 
     public void cancel() {
@@ -31,11 +38,14 @@ public class HudTask implements Runnable {
 
     @Override
     public void run() {
-        List<? extends Player> enabled = hudEnabledPlayers();
-        for (Player player : enabled) {
-            // Run player operations on the player's region thread for Folia compatibility
-            SchedulerUtil.runForEntity(player, () -> updatePlayerHud(player));
+        int shard = (int) (tick++ % period);
+        List<Player> players = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (Math.floorMod(player.getUniqueId().hashCode(), period) != shard) continue;
+            if (manager.getHudState(player)) players.add(player);
         }
+        // Run player operations on the players' region threads for Folia compatibility
+        SchedulerUtil.runForEntities(players, this::updatePlayerHud);
     }
 
     private void updatePlayerHud(Player player) {
@@ -57,6 +67,6 @@ public class HudTask implements Runnable {
             return;
         }
 
-        manager.updateHud(player);
+        manager.enableHud(player, hud);
     }
 }
@@ -43,6 +43,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 @SuppressWarnings("ALL")
@@ -50,6 +53,7 @@ public class ItemBuilder {
 
     public static final NamespacedKey UNSTACKABLE_KEY = new NamespacedKey(OraxenPlugin.get(), "unstackable");
     public static final NamespacedKey ORIGINAL_NAME_KEY = new NamespacedKey(OraxenPlugin.get(), "original_name");
+    public static final NamespacedKey REVISION_KEY = new NamespacedKey(OraxenPlugin.get(), "revision");
 
     private final ItemStack itemStack;
     private final Map<PersistentDataSpace, Object> persistentDataMap = new HashMap<>();
@@ -90,6 +94,8 @@ public class ItemBuilder {
     private List<Float> customModelDataFloats;
     private List<String> lore;
     private ItemStack finalItemStack;
+    @Nullable
+    private String revision;
 
     // 1.20.5+ properties
     @Nullable
@@ -845,12 +851,47 @@ public class ItemBuilder {
         applyPersistentData(pdc);
         applyLore(itemMeta);
 
+        pdc.remove(REVISION_KEY);
         itemStack.setItemMeta(itemMeta);
         finalItemStack = applyConsumableComponent(itemStack);
+        // Hashed once every component is applied, the revision itself is not part of the hashed state
+        revision = computeRevision(finalItemStack);
+        if (revision != null)
+            ItemUtils.editItemMeta(finalItemStack, meta -> meta.getPersistentDataContainer().set(REVISION_KEY, DataType.STRING, revision));
 
         return this;
     }
 
+    /**
+     * Hashes the components and PDC of the generated item together with the plugin version, the server version
+     * and the settings ItemUpdater depends on. Items carrying the current revision are already up to date and are skipped by ItemUpdater
+     */
+    @Nullable
+    private static String computeRevision(ItemStack item) {
+        ItemMeta itemMeta = item.getItemMeta();
+        if (itemMeta == null) return null;
+        String state = String.join("|", OraxenPlugin.get().getDescription().getVersion(), Bukkit.getBukkitVersion(),
+                String.valueOf(Settings.OVERRIDE_ITEM_LORE.toBool()), String.valueOf(Settings.OVERRIDE_RENAMED_ITEMS.toBool()),
+                item.getType().name(), itemMeta.getAsString());
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-1").digest(state.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) hex.append(String.format("%02x", b));
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the revision of the generated item, stored under {@link #REVISION_KEY} in the items built from this builder
+     */
+    public String getRevision() {
+        if (finalItemStack == null)
+            regen();
+        return revision;
+    }
+
     private void applyVersionSpecificProperties(ItemMeta itemMeta) {
         if (VersionUtil.atOrAbove("1.20.5")) {
             applyProperties_1_20_5(itemMeta);
@@ -5,6 +5,7 @@ import com.jeff_media.persistentdataserializer.PersistentDataSerializer;
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.nms.NMSHandler;
 import io.th0rgal.oraxen.nms.NMSHandlers;
 import io.th0rgal.oraxen.utils.AdventureUtils;
 import io.th0rgal.oraxen.utils.ItemUtils;
@@ -35,6 +36,7 @@ import org.bukkit.persistence.PersistentDataContainer;
 import java.util.*;
 
 import static io.th0rgal.oraxen.items.ItemBuilder.ORIGINAL_NAME_KEY;
+import static io.th0rgal.oraxen.items.ItemBuilder.REVISION_KEY;
 import static io.th0rgal.oraxen.items.ItemBuilder.UNSTACKABLE_KEY;
 
 public class ItemUpdater implements Listener {
@@ -147,6 +149,7 @@ public class ItemUpdater implements Listener {
     public static ItemStack updateItem(ItemStack oldItem) {
         String id = OraxenItems.getIdByItem(oldItem);
         if (id == null) return oldItem;
+        if (isUpToDate(oldItem, OraxenItems.getItemById(id))) return oldItem;
 
         // Oraxens Inventory adds a dumb PDC entry to items, this will remove them
         // Done here over [ItemsView] as this method is called anyway and supports old items
@@ -319,6 +322,11 @@ public class ItemUpdater implements Listener {
             // Also remove it on 1.20.5+ due to maxStackSize component
             if (VersionUtil.atOrAbove("1.20.5") || !newItemBuilder.isUnstackable()) itemPdc.remove(UNSTACKABLE_KEY);
             else itemPdc.set(UNSTACKABLE_KEY, DataType.UUID, UUID.randomUUID());
+
+            // The old revision was copied over with the rest of the PDC
+            String revision = newItemBuilder.getRevision();
+            if (revision != null) itemPdc.set(REVISION_KEY, DataType.STRING, revision);
+            else itemPdc.remove(REVISION_KEY);
         });
 
         Optional.ofNullable(NMSHandlers.getHandler()).ifPresent(nmsHandler ->
@@ -328,4 +336,18 @@ public class ItemUpdater implements Listener {
         return newItem;
     }
 
+    /**
+     * Checks if the item was generated from the current revision of its builder, without copying its meta
+     */
+    private static boolean isUpToDate(ItemStack item, ItemBuilder builder) {
+        NMSHandler handler = NMSHandlers.getHandler();
+        if (builder == null || handler == null) return false;
+        String revision = builder.getRevision();
+        if (revision == null || !revision.equals(handler.getPersistentDataString(item, REVISION_KEY)))
+            return false;
+
+        // Items taken from Oraxens Inventory still need their GUI entries removed
+        return !handler.hasPersistentData(item, IF_UUID) && !handler.hasPersistentData(item, MF_GUI);
+    }
+
 }
@@ -12,6 +12,8 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,7 +22,10 @@ public class BleedingMechanicListener implements Listener {
 
     private final MechanicFactory factory;
     // Use thread-safe map for Folia compatibility (concurrent region thread access)
-    private final Map<UUID, SchedulerUtil.ScheduledTask> bleedingTasks = new ConcurrentHashMap<>();
+    private final Map<UUID, Bleeding> bleedingEntities = new ConcurrentHashMap<>();
+    // A single timer drives every bleeding entity instead of one timer per entity
+    private SchedulerUtil.ScheduledTask task;
+    private volatile long currentTick;
 
     public BleedingMechanicListener(MechanicFactory factory) {
         this.factory = factory;
@@ -49,41 +54,68 @@ public class BleedingMechanicListener implements Listener {
     }
 
     private void applyBleeding(LivingEntity victim, BleedingMechanic mechanic) {
-        UUID victimId = victim.getUniqueId();
-
-        SchedulerUtil.ScheduledTask existingTask = bleedingTasks.remove(victimId);
-        if (existingTask != null) {
-            existingTask.cancel();
+        // Hitting a bleeding entity again restarts its bleeding
+        bleedingEntities.put(victim.getUniqueId(), new Bleeding(victim, mechanic, currentTick));
+        synchronized (this) {
+            if (task == null) task = SchedulerUtil.runTaskTimer(1L, 1L, this::tick);
         }
+    }
 
-        final int[] ticksRemaining = {mechanic.getDuration()};
+    private void tick() {
+        long tick = ++currentTick;
+        List<LivingEntity> due = new ArrayList<>();
+        for (Bleeding bleeding : bleedingEntities.values()) {
+            if (!bleeding.victim.isValid()) bleedingEntities.remove(bleeding.victim.getUniqueId(), bleeding);
+            else if (bleeding.nextTick <= tick) {
+                bleeding.nextTick = tick + Math.max(1, bleeding.mechanic.getTickInterval());
+                due.add(bleeding.victim);
+            }
+        }
+        // Damage every due victim in one batch per region thread for Folia compatibility
+        SchedulerUtil.runForEntities(due, this::bleed);
 
-        SchedulerUtil.ScheduledTask task = SchedulerUtil.runForEntityTimer(victim, 0L, mechanic.getTickInterval(), () -> {
-            if (!victim.isValid() || victim.isDead() || ticksRemaining[0] <= 0) {
-                SchedulerUtil.ScheduledTask taskToCancel = bleedingTasks.remove(victimId);
-                if (taskToCancel != null) {
-                    taskToCancel.cancel();
-                }
-                return;
+        synchronized (this) {
+            if (bleedingEntities.isEmpty() && task != null) {
+                task.cancel();
+                task = null;
             }
+        }
+    }
+
+    private void bleed(LivingEntity victim) {
+        Bleeding bleeding = bleedingEntities.get(victim.getUniqueId());
+        if (bleeding == null || bleeding.victim != victim) return;
+        if (!victim.isValid() || victim.isDead() || bleeding.ticksRemaining <= 0) {
+            bleedingEntities.remove(victim.getUniqueId(), bleeding);
+            return;
+        }
+
+        BleedingMechanic mechanic = bleeding.mechanic;
+        victim.damage(mechanic.getDamagePerTick());
+        victim.getWorld().spawnParticle(
+                Particle.BLOCK,
+                victim.getLocation().add(0, 1, 0),
+                10,
+                0.3, 0.5, 0.3,
+                0.1,
+                org.bukkit.Material.REDSTONE_BLOCK.createBlockData()
+        );
+
+        bleeding.ticksRemaining -= mechanic.getTickInterval();
+    }
 
-            victim.damage(mechanic.getDamagePerTick());
-            victim.getWorld().spawnParticle(
-                    Particle.BLOCK,
-                    victim.getLocation().add(0, 1, 0),
-                    10,
-                    0.3, 0.5, 0.3,
-                    0.1,
-                    org.bukkit.Material.REDSTONE_BLOCK.createBlockData()
-            );
-
-            ticksRemaining[0] -= mechanic.getTickInterval();
-        }, () -> bleedingTasks.remove(victimId));
-
-        // Only store task if it was successfully scheduled (can be null on Folia if entity is retired)
-        if (task != null) {
-            bleedingTasks.put(victimId, task);
+    private static final class Bleeding {
+        private final LivingEntity victim;
+        private final BleedingMechanic mechanic;
+        private volatile int ticksRemaining;
+        private volatile long nextTick;
+
+        private Bleeding(LivingEntity victim, BleedingMechanic mechanic, long nextTick) {
+            this.victim = victim;
+            this.mechanic = mechanic;
+            this.ticksRemaining = mechanic.getDuration();
+            this.nextTick = nextTick;
         }
     }
 
-}
\ No newline at end of file
+}
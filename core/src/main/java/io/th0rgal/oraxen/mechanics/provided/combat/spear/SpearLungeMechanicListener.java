@@ -48,6 +48,8 @@ public class SpearLungeMechanicListener implements Listener {
     // Track entities we're intentionally damaging via lunge - allow their damage
     // events
     private final Set<UUID> intentionalDamageTargets = ConcurrentHashMap.newKeySet();
+    // Single timer monitoring every charging player, running only while someone charges
+    private SchedulerUtil.ScheduledTask monitorTimer;
 
     // Cooldown in ticks after an attack before player can charge again (30 ticks =
     // 1.5 seconds)
@@ -65,12 +67,12 @@ public class SpearLungeMechanicListener implements Listener {
             long startTick,
             SpearLungeMechanic mechanic,
             EquipmentSlot hand,
-            SchedulerUtil.ScheduledTask task,
+            ChargeMonitorTask monitor,
             int lastFrame,
             NamespacedKey originalModel,
             float originalWalkSpeed) {
         ChargeState withLastFrame(int frame) {
-            return new ChargeState(startTick, mechanic, hand, task, frame, originalModel, originalWalkSpeed);
+            return new ChargeState(startTick, mechanic, hand, monitor, frame, originalModel, originalWalkSpeed);
         }
     }
 
@@ -142,14 +144,34 @@ public class SpearLungeMechanicListener implements Listener {
             player.playSound(player.getLocation(), mechanic.getChargeSound(), 0.8f, 1.2f);
         }
 
-        // Start a task to monitor charging state
+        // Monitor the charging state from the shared monitor task
         ChargeMonitorTask monitorTask = new ChargeMonitorTask(player, mechanic, hand);
-        SchedulerUtil.ScheduledTask task = SchedulerUtil.runForEntityTimer(player, 1L, 1L, 
-            monitorTask, () -> cancelCharge(player, false));
-
-        ChargeState state = new ChargeState(Bukkit.getCurrentTick(), mechanic, hand, task, 0, originalModel,
+        ChargeState state = new ChargeState(Bukkit.getCurrentTick(), mechanic, hand, monitorTask, 0, originalModel,
                 originalWalkSpeed);
         chargingPlayers.put(player.getUniqueId(), state);
+        synchronized (this) {
+            if (monitorTimer == null) monitorTimer = SchedulerUtil.runTaskTimer(1L, 1L, this::monitorCharges);
+        }
+    }
+
+    /**
+     * Runs the monitor of every charging player, batched per region thread for Folia compatibility,
+     * instead of scheduling one timer per charging player.
+     */
+    private void monitorCharges() {
+        List<Player> players = new ArrayList<>(chargingPlayers.size());
+        for (ChargeState state : chargingPlayers.values()) players.add(state.monitor().player);
+        SchedulerUtil.runForEntities(players, player -> {
+            ChargeState state = chargingPlayers.get(player.getUniqueId());
+            if (state != null && state.monitor().player == player) state.monitor().run();
+        });
+
+        synchronized (this) {
+            if (chargingPlayers.isEmpty() && monitorTimer != null) {
+                monitorTimer.cancel();
+                monitorTimer = null;
+            }
+        }
     }
 
     private void cancelCharge(Player player, boolean performAttack) {
@@ -157,10 +179,6 @@ public class SpearLungeMechanicListener implements Listener {
         if (state == null)
             return;
 
-        if (state.task() != null) {
-            state.task().cancel();
-        }
-
         // Restore walk speed
         player.setWalkSpeed(state.originalWalkSpeed());
 
@@ -349,9 +367,6 @@ public class SpearLungeMechanicListener implements Listener {
         Player player = event.getPlayer();
         ChargeState state = chargingPlayers.remove(player.getUniqueId());
         if (state != null) {
-            if (state.task() != null) {
-                state.task().cancel();
-            }
             // Restore walk speed before player disconnects
             player.setWalkSpeed(state.originalWalkSpeed());
         }
@@ -364,9 +379,6 @@ public class SpearLungeMechanicListener implements Listener {
         Player player = event.getEntity();
         ChargeState state = chargingPlayers.remove(player.getUniqueId());
         if (state != null) {
-            if (state.task() != null) {
-                state.task().cancel();
-            }
             // Restore walk speed so it's correct on respawn
             player.setWalkSpeed(state.originalWalkSpeed());
         }
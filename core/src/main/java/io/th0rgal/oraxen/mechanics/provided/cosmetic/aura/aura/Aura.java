@@ -18,13 +18,10 @@ public abstract class Aura {
     protected abstract long getDelay();
 
     public void start() {
-        // Use async timer to iterate players, then schedule particle spawning
-        // on each player's region thread for Folia compatibility
-        scheduledTask = SchedulerUtil.runTaskTimerAsync(0L, getDelay(), () -> {
-            for (Player player : mechanic.players) {
-                SchedulerUtil.runForEntity(player, () -> spawnParticles(player));
-            }
-        });
+        // Use async timer to iterate players, then spawn particles in one batch
+        // per region thread for Folia compatibility
+        scheduledTask = SchedulerUtil.runTaskTimerAsync(0L, getDelay(),
+                () -> SchedulerUtil.runForEntities(mechanic.players, this::spawnParticles));
     }
 
     public void stop() {
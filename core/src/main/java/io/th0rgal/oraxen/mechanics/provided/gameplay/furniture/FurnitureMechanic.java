@@ -11,6 +11,7 @@ import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.compatibilities.provided.blocklocker.BlockLockerMechanic;
 import io.th0rgal.oraxen.mechanics.Mechanic;
 import io.th0rgal.oraxen.mechanics.MechanicFactory;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.evolution.EvolutionTask;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.evolution.EvolvingFurniture;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.evolution.GrowthStage;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.jukebox.JukeboxBlock;
@@ -588,7 +589,10 @@ public class FurnitureMechanic extends Mechanic {
         PersistentDataContainer pdc = entity.getPersistentDataContainer();
         pdc.set(FURNITURE_KEY, PersistentDataType.STRING, getItemID());
         pdc.set(BARRIER_KEY, DataType.asList(BlockLocation.dataType), barriers);
-        if (hasEvolution()) pdc.set(EVOLUTION_KEY, PersistentDataType.INTEGER, 0);
+        if (hasEvolution()) {
+            pdc.set(EVOLUTION_KEY, PersistentDataType.INTEGER, 0);
+            EvolutionTask.track(entity);
+        }
         // NEW: Set initial stage index for staged evolution
         if (hasGrowthStages()) pdc.set(STAGE_INDEX_KEY, PersistentDataType.INTEGER, initialStageIndex);
         if (isStorage() && getStorage().getStorageType() == StorageMechanic.StorageType.STORAGE) {
@@ -803,6 +807,7 @@ public class FurnitureMechanic extends Mechanic {
 
     private void removeBaseEntity(Entity baseEntity) {
         if (baseEntity == null) return;
+        if (hasEvolution()) EvolutionTask.untrack(baseEntity);
         removeSubEntitiesOfFurniture(baseEntity);
         removeLight(baseEntity.getLocation().getBlock());
         if (!baseEntity.isDead()) baseEntity.remove();
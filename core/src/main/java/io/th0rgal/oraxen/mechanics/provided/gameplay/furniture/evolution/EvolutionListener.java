@@ -11,6 +11,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataContainer;
@@ -24,6 +26,20 @@ public class EvolutionListener implements Listener {
     public EvolutionListener() {
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        for (Entity entity : event.getEntities())
+            if (entity.getPersistentDataContainer().has(EVOLUTION_KEY, PersistentDataType.INTEGER))
+                EvolutionTask.track(entity);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities())
+            if (entity.getPersistentDataContainer().has(EVOLUTION_KEY, PersistentDataType.INTEGER))
+                EvolutionTask.untrack(entity);
+    }
+
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBoneMeal(PlayerInteractEntityEvent event) {
         if (event.getHand() != EquipmentSlot.HAND) return;
@@ -88,6 +104,8 @@ public class EvolutionListener implements Listener {
 
         // Update light level if stage has per-stage light
         EvolutionTask.updateStageLight(entity.getLocation().getBlock(), currentStage, nextStage, mechanic);
+        // Restart the countdown of the new stage
+        EvolutionTask.track(entity);
     }
 
     /**
@@ -6,7 +6,9 @@ import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureFactory;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanic;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.farmblock.FarmBlockDryout;
+import io.th0rgal.oraxen.utils.DueQueue;
 import io.th0rgal.oraxen.utils.SchedulerUtil;
+import io.th0rgal.oraxen.utils.VersionUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -18,13 +20,27 @@ import org.bukkit.block.data.type.Light;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.util.List;
+import java.util.UUID;
+
 import static io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic.EVOLUTION_KEY;
 import static io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic.STAGE_INDEX_KEY;
-
+import static io.th0rgal.oraxen.utils.DueQueue.UNTRACK;
+
+/**
+ * Advances evolving furniture.
+ * <p>
+ * Evolving furniture is tracked in a registry ordered by the run its next evolution is due,
+ * filled when furniture is placed or loaded and emptied when it is broken or unloaded.
+ * Furniture whose progress only depends on time is skipped until it is due, and credited
+ * with the runs it was skipped for. Furniture depending on light, rain or the block below
+ * is still checked every run.
+ */
 public class EvolutionTask implements Runnable {
 
     private final FurnitureFactory furnitureFactory;
     private final int delay;
+    private final DueQueue<UUID, Entity> furniture = new DueQueue<>(Entity::getUniqueId, null);
     private SchedulerUtil.ScheduledTask scheduledTask;
 
     public EvolutionTask(FurnitureFactory furnitureFactory, int delay) {
@@ -33,6 +49,11 @@ public class EvolutionTask implements Runnable {
     }
 
     public SchedulerUtil.ScheduledTask start(long initialDelay, long period) {
+        // Furniture loaded before the task existed is only found by scanning once
+        for (World world : Bukkit.getWorlds())
+            for (Class<? extends Entity> entityClass : FurnitureMechanic.FurnitureType.furnitureEntityClasses())
+                for (Entity entity : world.getEntitiesByClass(entityClass))
+                    furniture.schedule(entity, 1);
         scheduledTask = SchedulerUtil.runTaskTimer(initialDelay, period, this);
         return scheduledTask;
     }
@@ -42,74 +63,126 @@ public class EvolutionTask implements Runnable {
             scheduledTask.cancel();
             scheduledTask = null;
         }
+        List<DueQueue.Entry<Entity>> remaining = furniture.clear();
+        // Entities are only safe to touch from here outside of Folia
+        if (!VersionUtil.isFoliaServer()) remaining.forEach(this::flush);
+    }
+
+    /**
+     * Registers evolving furniture with the running task, to be checked on its next run.
+     */
+    public static void track(Entity baseEntity) {
+        EvolutionTask task = FurnitureFactory.getEvolutionTask();
+        if (task != null) task.furniture.schedule(baseEntity, 1);
+    }
+
+    /**
+     * Stops tracking furniture, crediting it with the progress it made since it was last checked.
+     */
+    public static void untrack(Entity baseEntity) {
+        EvolutionTask task = FurnitureFactory.getEvolutionTask();
+        if (task == null) return;
+        DueQueue.Entry<Entity> entry = task.furniture.untrack(baseEntity.getUniqueId());
+        if (entry != null) task.flush(entry);
     }
 
     @Override
     public void run() {
-        for (World world : Bukkit.getWorlds()) {
-            for (Class<? extends Entity> entityClass : FurnitureMechanic.FurnitureType.furnitureEntityClasses()) {
-                for (Entity entity : world.getEntitiesByClass(entityClass)) {
-                    // Run entity operations on the entity's region thread for Folia compatibility
-                    SchedulerUtil.runForEntity(entity, () -> processEvolution(entity, world));
-                }
+        long run = furniture.nextRun();
+        for (DueQueue.Entry<Entity> entry : furniture.due(run)) {
+            Entity entity = entry.value();
+            if (!entity.isValid()) {
+                furniture.untrack(entry);
+                continue;
             }
+            // Run entity operations on the entity's region thread for Folia compatibility
+            SchedulerUtil.runForEntity(entity, () -> {
+                if (entry.isRemoved()) return;
+                int elapsed = (int) Math.min(Integer.MAX_VALUE, entry.runsSince(run) * delay);
+                furniture.reschedule(entry, run, processEvolution(entity, entity.getWorld(), elapsed));
+            }, () -> furniture.untrack(entry));
         }
     }
 
-    private void processEvolution(Entity entity, World world) {
+    /**
+     * Writes the progress made since the last check of furniture that was skipped, so it survives unloads.
+     */
+    private void flush(DueQueue.Entry<Entity> entry) {
+        Entity entity = entry.value();
+        if (!entity.isValid()) return;
+        long skipped = furniture.flush(entry);
+        if (skipped <= 0) return;
+        PersistentDataContainer pdc = entity.getPersistentDataContainer();
+        Integer progress = pdc.get(EVOLUTION_KEY, PersistentDataType.INTEGER);
+        if (progress == null) return;
+        pdc.set(EVOLUTION_KEY, PersistentDataType.INTEGER, (int) Math.min(Integer.MAX_VALUE, progress + skipped * delay));
+    }
+
+    /**
+     * @param elapsed the progress made since the last check
+     * @return the amount of runs until the next check is due, or {@link #UNTRACK} if it no longer evolves
+     */
+    private long processEvolution(Entity entity, World world, int elapsed) {
         Location entityLoc = entity.getLocation();
         PersistentDataContainer pdc = entity.getPersistentDataContainer();
-        if (!pdc.has(EVOLUTION_KEY, PersistentDataType.INTEGER)) return;
+        if (!pdc.has(EVOLUTION_KEY, PersistentDataType.INTEGER)) return UNTRACK;
 
         Block blockBelow = entityLoc.getBlock().getRelative(BlockFace.DOWN);
         FurnitureMechanic mechanic = OraxenFurniture.getFurnitureMechanic(entity);
-        if (mechanic == null) return;
+        if (mechanic == null) return UNTRACK;
 
         // Check farmland/farmblock requirements
         if (mechanic.farmlandRequired && blockBelow.getType() != Material.FARMLAND) {
             OraxenFurniture.remove(entity, null);
-            return;
+            return UNTRACK;
         }
 
         if (mechanic.farmblockRequired) {
             NoteBlockMechanic noteMechanic = OraxenBlocks.getNoteBlockMechanic(blockBelow);
             if (noteMechanic == null || !noteMechanic.hasDryout()) {
                 OraxenFurniture.remove(entity, null);
-                return;
+                return UNTRACK;
             }
             FarmBlockDryout dryoutMechanic = noteMechanic.getDryout();
             if (!dryoutMechanic.isFarmBlock()) {
                 OraxenFurniture.remove(entity, null);
-                return;
+                return UNTRACK;
             } else if (!dryoutMechanic.isMoistFarmBlock()) {
                 pdc.set(EVOLUTION_KEY, PersistentDataType.INTEGER, 0);
-                return;
+                return 1;
             }
         }
 
         // NEW: Handle staged evolution (model swapping, no entity recreation)
-        if (mechanic.hasGrowthStages()) {
-            processStageEvolution(entity, mechanic, pdc, entityLoc, world);
-            return;
-        }
+        if (mechanic.hasGrowthStages())
+            return processStageEvolution(entity, mechanic, pdc, entityLoc, world, elapsed);
 
         // Legacy: Handle single-stage evolution (entity recreation)
-        processLegacyEvolution(entity, mechanic, pdc, entityLoc, world);
+        return processLegacyEvolution(entity, mechanic, pdc, entityLoc, world, elapsed);
+    }
+
+    /**
+     * @return the amount of runs until the given progress exceeds the given delay, or 1 if
+     * the furniture has to be checked every run as its progress depends on its surroundings
+     */
+    private long runsUntilDue(FurnitureMechanic mechanic, boolean boosted, int progress, int evolutionDelay) {
+        if (boosted || mechanic.farmlandRequired || mechanic.farmblockRequired || delay <= 0) return 1;
+        return Math.max(1, (evolutionDelay - (long) progress) / delay + 1);
     }
 
     /**
      * Processes evolution for furniture using the new inline stages system.
      * Only swaps the model, preserves the entity.
      */
-    private void processStageEvolution(Entity entity, FurnitureMechanic mechanic, 
-                                        PersistentDataContainer pdc, Location entityLoc, World world) {
+    private long processStageEvolution(Entity entity, FurnitureMechanic mechanic,
+                                        PersistentDataContainer pdc, Location entityLoc, World world, int elapsed) {
         int currentStageIndex = pdc.getOrDefault(STAGE_INDEX_KEY, PersistentDataType.INTEGER, 0);
         
         // Check if already at final stage
-        if (mechanic.isFinalStage(currentStageIndex)) return;
+        if (mechanic.isFinalStage(currentStageIndex)) return UNTRACK;
         
         GrowthStage currentStage = mechanic.getGrowthStage(currentStageIndex);
-        if (currentStage == null || !currentStage.hasEvolution()) return;
+        if (currentStage == null || !currentStage.hasEvolution()) return UNTRACK;
         
         // Calculate boost ticks
         int lightBoostTick = 0;
@@ -127,20 +200,21 @@ public class EvolutionTask implements Runnable {
         
         // Update evolution progress
         int evolutionStep = pdc.getOrDefault(EVOLUTION_KEY, PersistentDataType.INTEGER, 0) 
-                           + delay + lightBoostTick + rainBoostTick;
+                           + elapsed + lightBoostTick + rainBoostTick;
+        boolean boosted = currentStage.isLightBoosted() || currentStage.isRainBoosted();
         
         if (evolutionStep > currentStage.getDelay()) {
             // Ready to evolve - check probability
             if (!currentStage.bernoulliTest()) {
                 // Failed probability check, reset timer but stay at current stage
                 pdc.set(EVOLUTION_KEY, PersistentDataType.INTEGER, 0);
-                return;
+                return runsUntilDue(mechanic, boosted, 0, currentStage.getDelay());
             }
             
             // Advance to next stage
             int nextStageIndex = currentStageIndex + 1;
             GrowthStage nextStage = mechanic.getGrowthStage(nextStageIndex);
-            if (nextStage == null) return;
+            if (nextStage == null) return UNTRACK;
 
             // Update stage index
             pdc.set(STAGE_INDEX_KEY, PersistentDataType.INTEGER, nextStageIndex);
@@ -153,19 +227,22 @@ public class EvolutionTask implements Runnable {
 
             // Update light level if stage has per-stage light
             updateStageLight(entityLoc.getBlock(), currentStage, nextStage, mechanic);
+            if (mechanic.isFinalStage(nextStageIndex) || !nextStage.hasEvolution()) return UNTRACK;
+            return runsUntilDue(mechanic, nextStage.isLightBoosted() || nextStage.isRainBoosted(), 0, nextStage.getDelay());
         } else {
             // Not ready yet, update progress
             pdc.set(EVOLUTION_KEY, PersistentDataType.INTEGER, evolutionStep);
+            return runsUntilDue(mechanic, boosted, evolutionStep, currentStage.getDelay());
         }
     }
 
     /**
      * Processes evolution using the legacy system (separate items, entity recreation).
      */
-    private void processLegacyEvolution(Entity entity, FurnitureMechanic mechanic, 
-                                         PersistentDataContainer pdc, Location entityLoc, World world) {
+    private long processLegacyEvolution(Entity entity, FurnitureMechanic mechanic,
+                                         PersistentDataContainer pdc, Location entityLoc, World world, int elapsed) {
         EvolvingFurniture evolution = mechanic.getEvolution();
-        if (evolution == null) return;
+        if (evolution == null) return UNTRACK;
 
         int lightBoostTick = 0;
         int rainBoostTick = 0;
@@ -176,19 +253,26 @@ public class EvolutionTask implements Runnable {
         if (evolution.isRainBoosted() && world.hasStorm() && world.getHighestBlockAt(entityLoc).getY() > entityLoc.getY())
             rainBoostTick = evolution.getRainBoostTick();
 
-        int evolutionStep = pdc.get(EVOLUTION_KEY, PersistentDataType.INTEGER) + delay + lightBoostTick + rainBoostTick;
+        int evolutionStep = pdc.get(EVOLUTION_KEY, PersistentDataType.INTEGER) + elapsed + lightBoostTick + rainBoostTick;
 
         if (evolutionStep > evolution.getDelay()) {
-            if (evolution.getNextStage() == null) return;
-            if (!evolution.bernoulliTest()) return;
+            if (evolution.getNextStage() == null) return UNTRACK;
+            if (!evolution.bernoulliTest()) {
+                // Retried every run, keep the progress credited for skipped runs
+                pdc.set(EVOLUTION_KEY, PersistentDataType.INTEGER, evolutionStep);
+                return 1;
+            }
 
             FurnitureMechanic nextMechanic = (FurnitureMechanic) furnitureFactory.getMechanic(evolution.getNextStage());
-            if (nextMechanic == null) return;
+            if (nextMechanic == null) return UNTRACK;
 
+            // The placed furniture registers itself
             OraxenFurniture.remove(entity, null);
             nextMechanic.place(entity.getLocation(), entity.getLocation().getYaw(), entity.getFacing());
+            return UNTRACK;
         } else {
             pdc.set(EVOLUTION_KEY, PersistentDataType.INTEGER, evolutionStep);
+            return runsUntilDue(mechanic, evolution.isLightBoosted() || evolution.isRainBoosted(), evolutionStep, evolution.getDelay());
         }
     }
 
@@ -249,6 +249,10 @@ public class NoteBlockMechanicFactory extends MechanicFactory {
         return createNoteBlockData(((NoteBlockMechanic) getInstance().getMechanic(itemID)).getCustomVariation());
     }
 
+    public static FarmBlockTask getFarmBlockTask() {
+        return farmBlockTask;
+    }
+
     public void registerFarmBlock() {
         if (farmBlock) return;
         if (farmBlockTask != null) farmBlockTask.cancel();
@@ -264,6 +268,7 @@ public class NoteBlockMechanicFactory extends MechanicFactory {
 //        if (farmblockList.isEmpty()) return;
 
         farmBlockTask = new FarmBlockTask(farmBlockCheckDelay);
+        MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(), farmBlockTask);
         MechanicsManager.registerTask(getMechanicID(), farmBlockTask.start(0, farmBlockCheckDelay));
         farmBlock = true;
     }
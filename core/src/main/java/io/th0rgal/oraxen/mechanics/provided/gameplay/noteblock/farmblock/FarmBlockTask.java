@@ -6,18 +6,41 @@ import io.th0rgal.oraxen.api.OraxenBlocks;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanic;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanicFactory;
 import io.th0rgal.oraxen.utils.BlockHelpers;
+import io.th0rgal.oraxen.utils.ChunkKey;
 import io.th0rgal.oraxen.utils.SchedulerUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanic.FARMBLOCK_KEY;
 
-public class FarmBlockTask implements Runnable {
+/**
+ * Dries out and moistens farmblocks.
+ * <p>
+ * Farmblocks are indexed per chunk, filled on placement and chunk load and emptied on
+ * chunk unload, so each run only visits chunks that contain farmblocks, with a single
+ * region-scoped task per chunk. Blocks that turn out not to be farmblocks anymore are
+ * dropped from the index when visited.
+ * <p>
+ * The custom data of the blocks is read from the chunk's PersistentDataContainer, resolved
+ * once per chunk and run, instead of going through a CustomBlockData per block.
+ */
+public class FarmBlockTask implements Runnable, Listener {
     private final int delay;
+    private final Map<ChunkKey, Set<Block>> farmBlocks = new ConcurrentHashMap<>();
     private SchedulerUtil.ScheduledTask scheduledTask;
 
     public FarmBlockTask(int delay) {
@@ -25,6 +48,10 @@ public class FarmBlockTask implements Runnable {
     }
 
     public SchedulerUtil.ScheduledTask start(long initialDelay, long period) {
+        // Chunks loaded before the task existed are only indexed once
+        for (World world : Bukkit.getWorlds())
+            for (Chunk chunk : world.getLoadedChunks())
+                indexChunk(chunk);
         scheduledTask = SchedulerUtil.runTaskTimer(initialDelay, period, this);
         return scheduledTask;
     }
@@ -34,6 +61,47 @@ public class FarmBlockTask implements Runnable {
             scheduledTask.cancel();
             scheduledTask = null;
         }
+        farmBlocks.clear();
+    }
+
+    /**
+     * Registers a farmblock with the running task.
+     */
+    public static void track(Block block) {
+        FarmBlockTask task = NoteBlockMechanicFactory.getFarmBlockTask();
+        if (task != null) task.farmBlocks.computeIfAbsent(ChunkKey.of(block), k -> ConcurrentHashMap.newKeySet()).add(block);
+    }
+
+    public static void untrack(Block block) {
+        FarmBlockTask task = NoteBlockMechanicFactory.getFarmBlockTask();
+        if (task == null) return;
+        Set<Block> blocks = task.farmBlocks.get(ChunkKey.of(block));
+        if (blocks != null) blocks.remove(block);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        indexChunk(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        farmBlocks.remove(ChunkKey.of(event.getChunk()));
+    }
+
+    /**
+     * Indexes the farmblocks of the chunk.
+     */
+    private void indexChunk(Chunk chunk) {
+        Set<Block> blocks = CustomBlockData.getBlocksWithCustomData(OraxenPlugin.get(), chunk);
+        if (blocks.isEmpty()) return;
+        PersistentDataContainer chunkPdc = chunk.getPersistentDataContainer();
+        Set<Block> indexed = ConcurrentHashMap.newKeySet();
+        for (Block block : blocks) {
+            PersistentDataContainer pdc = chunkPdc.get(BlockHelpers.getPDCKey(block), PersistentDataType.TAG_CONTAINER);
+            if (pdc != null && pdc.getKeys().contains(FARMBLOCK_KEY)) indexed.add(block);
+        }
+        if (!indexed.isEmpty()) farmBlocks.put(ChunkKey.of(chunk), indexed);
     }
 
     private boolean isAreaWet(FarmBlockDryout mechanic, Block block, PersistentDataContainer pdc) {
@@ -47,39 +115,59 @@ public class FarmBlockTask implements Runnable {
         NoteBlockMechanicFactory.setBlockModel(block, model);
     }
 
-    private void updateBlock(Block block, PersistentDataContainer pdc) {
-        if (pdc.getKeys().contains(FARMBLOCK_KEY)) {
-            NoteBlockMechanic mechanic = OraxenBlocks.getNoteBlockMechanic(block);
-            if (mechanic != null && mechanic.hasDryout()) {
-                FarmBlockDryout farmMechanic = mechanic.getDryout();
-
-                if (isAreaWet(farmMechanic, block, pdc)) {
-                    if (pdc.has(FARMBLOCK_KEY, PersistentDataType.STRING))
-                        updateBlockModel(block, pdc, farmMechanic.getMoistFarmBlock());
-                    pdc.set(FARMBLOCK_KEY, PersistentDataType.INTEGER, 0);
-                } else if (pdc.has(FARMBLOCK_KEY, PersistentDataType.INTEGER)) {
-                    int moistTimerRemain = pdc.getOrDefault(FARMBLOCK_KEY, PersistentDataType.INTEGER, 0) + delay;
-                    if (farmMechanic.getDryoutTime() - moistTimerRemain <= 0) {
-                        updateBlockModel(block, pdc, farmMechanic.getFarmBlock());
-                        pdc.set(FARMBLOCK_KEY, PersistentDataType.STRING, farmMechanic.getFarmBlock());
-                    } else
-                        pdc.set(FARMBLOCK_KEY, PersistentDataType.INTEGER, moistTimerRemain);
-                }
-            } else //Remove FARMBLOCK_KEY from pdc if the block has no (longer a) dryout mechanic
-                pdc.remove(FARMBLOCK_KEY);
+    /**
+     * @return false if the block is not a farmblock anymore
+     */
+    private boolean updateBlock(Block block, PersistentDataContainer pdc) {
+        NoteBlockMechanic mechanic = OraxenBlocks.getNoteBlockMechanic(block);
+        if (mechanic == null || !mechanic.hasDryout()) {
+            //Remove FARMBLOCK_KEY from pdc if the block has no (longer a) dryout mechanic
+            pdc.remove(FARMBLOCK_KEY);
+            return false;
         }
+
+        FarmBlockDryout farmMechanic = mechanic.getDryout();
+        if (isAreaWet(farmMechanic, block, pdc)) {
+            if (pdc.has(FARMBLOCK_KEY, PersistentDataType.STRING))
+                updateBlockModel(block, pdc, farmMechanic.getMoistFarmBlock());
+            pdc.set(FARMBLOCK_KEY, PersistentDataType.INTEGER, 0);
+        } else if (pdc.has(FARMBLOCK_KEY, PersistentDataType.INTEGER)) {
+            int moistTimerRemain = pdc.getOrDefault(FARMBLOCK_KEY, PersistentDataType.INTEGER, 0) + delay;
+            if (farmMechanic.getDryoutTime() - moistTimerRemain <= 0) {
+                updateBlockModel(block, pdc, farmMechanic.getFarmBlock());
+                pdc.set(FARMBLOCK_KEY, PersistentDataType.STRING, farmMechanic.getFarmBlock());
+            } else
+                pdc.set(FARMBLOCK_KEY, PersistentDataType.INTEGER, moistTimerRemain);
+        }
+        return true;
     }
 
     @Override
     public void run() {
-        for (World world : Bukkit.getWorlds()) {
-            for (Chunk chunk : world.getLoadedChunks()) {
-                for (Block block : CustomBlockData.getBlocksWithCustomData(OraxenPlugin.get(), chunk)) {
-                    // Run block operations on the block's region thread for Folia compatibility
-                    SchedulerUtil.runAtLocation(block.getLocation(), () ->
-                            updateBlock(block, BlockHelpers.getPDC(block)));
-                }
+        for (Map.Entry<ChunkKey, Set<Block>> entry : farmBlocks.entrySet()) {
+            Set<Block> blocks = entry.getValue();
+            if (blocks.isEmpty()) {
+                farmBlocks.remove(entry.getKey(), blocks);
+                continue;
             }
+            // Run block operations on the chunk's region thread for Folia compatibility
+            Block first = blocks.iterator().next();
+            SchedulerUtil.runAtLocation(first.getLocation(), () -> {
+                // Blocks store their custom data in the chunk's, resolve it once for the whole chunk
+                PersistentDataContainer chunkPdc = first.getChunk().getPersistentDataContainer();
+                for (Block block : blocks) {
+                    NamespacedKey key = BlockHelpers.getPDCKey(block);
+                    PersistentDataContainer pdc = chunkPdc.get(key, PersistentDataType.TAG_CONTAINER);
+                    if (pdc == null || !pdc.getKeys().contains(FARMBLOCK_KEY)) {
+                        blocks.remove(block);
+                        continue;
+                    }
+                    if (!updateBlock(block, pdc)) blocks.remove(block);
+                    // Written back once per block, instead of once per change like CustomBlockData does
+                    if (pdc.isEmpty()) chunkPdc.remove(key);
+                    else chunkPdc.set(key, PersistentDataType.TAG_CONTAINER, pdc);
+                }
+            });
         }
     }
 }
@@ -13,7 +13,6 @@ import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanic;
 import io.th0rgal.oraxen.utils.AdventureUtils;
 import io.th0rgal.oraxen.utils.BlockHelpers;
-import io.th0rgal.oraxen.utils.SchedulerUtil;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
@@ -257,24 +256,24 @@ public class StorageMechanic {
     private StorageGui createPersonalGui(Player player, @Nullable Entity baseEntity) {
         PersistentDataContainer storagePDC = player.getPersistentDataContainer();
         StorageGui gui = Gui.storage().title(AdventureUtils.MINI_MESSAGE.deserialize(title)).rows(rows).create();
+        StorageSaver.Save save = StorageSaver.track(gui, player.getLocation(), player,
+                contents -> storagePDC.set(PERSONAL_STORAGE_KEY, DataType.ITEM_STACK_ARRAY, contents));
 
-        // Slight delay to catch stacks sometimes moving too fast
         gui.setDefaultClickAction(event -> {
-            if (event.getCursor() != null && event.getCursor().getType() != Material.AIR || event.getCurrentItem() != null) {
-                SchedulerUtil.runForEntityLater(player, 3L, () ->
-                        storagePDC.set(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, gui.getInventory().getContents()), () -> {});
-            }
+            if (event.getCursor() != null && event.getCursor().getType() != Material.AIR || event.getCurrentItem() != null)
+                save.markDirty();
         });
 
         gui.setOpenGuiAction(event -> {
             playerStorages.add(player);
             if (storagePDC.has(PERSONAL_STORAGE_KEY, DataType.ITEM_STACK_ARRAY))
                 gui.getInventory().setContents(Objects.requireNonNull(storagePDC.get(PERSONAL_STORAGE_KEY, DataType.ITEM_STACK_ARRAY)));
+            save.loaded();
         });
 
         gui.setCloseGuiAction(event -> {
             playerStorages.remove(player);
-            storagePDC.set(PERSONAL_STORAGE_KEY, DataType.ITEM_STACK_ARRAY, gui.getInventory().getContents());
+            save.flush();
             if (hasCloseSound() && player.getLocation().isWorldLoaded())
                 Objects.requireNonNull(player.getLocation().getWorld()).playSound(player.getLocation(), closeSound, volume, pitch);
             if (baseEntity != null) playOpenAnimation(baseEntity, closeAnimation);
@@ -287,21 +286,23 @@ public class StorageMechanic {
         Location location = block.getLocation();
         PersistentDataContainer storagePDC = BlockHelpers.getPDC(block);
         StorageGui gui = Gui.storage().title(AdventureUtils.MINI_MESSAGE.deserialize(title)).rows(rows).create();
+        StorageSaver.Save save = StorageSaver.track(gui, location, null,
+                contents -> storagePDC.set(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, contents));
 
-        // Slight delay to catch stacks sometimes moving too fast
         gui.setDefaultClickAction(event -> {
-            if (event.getCursor() != null && event.getCursor().getType() != Material.AIR || event.getCurrentItem() != null) {
-                SchedulerUtil.runAtLocationLater(location, 3L, () ->
-                        storagePDC.set(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, gui.getInventory().getContents()));
-            }
+            if (event.getCursor() != null && event.getCursor().getType() != Material.AIR || event.getCurrentItem() != null)
+                save.markDirty();
         });
         gui.setOpenGuiAction(event -> {
+            // Another viewer's unsaved changes are newer than the stored contents
+            if (save.isDirty()) return;
             if (storagePDC.has(STORAGE_KEY, DataType.ITEM_STACK_ARRAY))
                 gui.getInventory().setContents(storagePDC.getOrDefault(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, new ItemStack[]{}));
+            save.loaded();
         });
 
         gui.setCloseGuiAction(event -> {
-            storagePDC.set(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, gui.getInventory().getContents());
+            save.flush();
             if (hasCloseSound() && BlockHelpers.isLoaded(block.getLocation()))
                 Objects.requireNonNull(location.getWorld()).playSound(location, closeSound, volume, pitch);
             if (frame != null) playOpenAnimation(frame, closeAnimation);
@@ -319,31 +320,29 @@ public class StorageMechanic {
         boolean shulker = isShulker();
         PersistentDataContainer shulkerPDC = shulker ? itemPDC : null;
         StorageGui gui = Gui.storage().title(AdventureUtils.MINI_MESSAGE.deserialize(title)).rows(rows).create();
+        StorageSaver.Save save = StorageSaver.track(gui, location, baseEntity,
+                contents -> (shulker ? shulkerPDC : storagePDC).set(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, contents));
 
-        // Slight delay to catch stacks sometimes moving too fast
         gui.setDefaultClickAction(event -> {
-            if (event.getCursor() != null && event.getCursor().getType() != Material.AIR || event.getCurrentItem() != null) {
-                SchedulerUtil.runForEntityLater(baseEntity, 3L, () ->
-                        storagePDC.set(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, gui.getInventory().getContents()), () -> {});
-            }
+            if (event.getCursor() != null && event.getCursor().getType() != Material.AIR || event.getCurrentItem() != null)
+                save.markDirty();
         });
 
         // If it's a shulker, get the itemstack array of the items pdc, otherwise use the frame pdc
-        gui.setOpenGuiAction(event -> gui.getInventory().setContents(
-                (!shulker && storagePDC.has(STORAGE_KEY, DataType.ITEM_STACK_ARRAY)
-                        ? storagePDC.getOrDefault(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, new ItemStack[]{})
-                        : (shulker && shulkerPDC.has(STORAGE_KEY, DataType.ITEM_STACK_ARRAY))
-                        ? shulkerPDC.getOrDefault(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, new ItemStack[]{})
-                        : new ItemStack[]{})));
+        gui.setOpenGuiAction(event -> {
+            // Another viewer's unsaved changes are newer than the stored contents
+            if (save.isDirty()) return;
+            gui.getInventory().setContents(
+                    (!shulker && storagePDC.has(STORAGE_KEY, DataType.ITEM_STACK_ARRAY)
+                            ? storagePDC.getOrDefault(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, new ItemStack[]{})
+                            : (shulker && shulkerPDC.has(STORAGE_KEY, DataType.ITEM_STACK_ARRAY))
+                            ? shulkerPDC.getOrDefault(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, new ItemStack[]{})
+                            : new ItemStack[]{}));
+            save.loaded();
+        });
 
         gui.setCloseGuiAction(event -> {
-            if (gui.getInventory().getViewers().size() <= 1) {
-                if (shulker) {
-                    shulkerPDC.set(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, gui.getInventory().getContents());
-                } else {
-                    storagePDC.set(STORAGE_KEY, DataType.ITEM_STACK_ARRAY, gui.getInventory().getContents());
-                }
-            }
+            if (gui.getInventory().getViewers().size() <= 1) save.flush();
             if (hasCloseSound() && BlockHelpers.isLoaded(baseEntity.getLocation()))
                 Objects.requireNonNull(location.getWorld()).playSound(location, closeSound, volume, pitch);
             playOpenAnimation(baseEntity, closeAnimation);
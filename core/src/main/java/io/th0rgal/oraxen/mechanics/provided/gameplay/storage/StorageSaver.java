@@ -0,0 +1,152 @@
+package io.th0rgal.oraxen.mechanics.provided.gameplay.storage;
+
+import dev.triumphteam.gui.guis.StorageGui;
+import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.utils.SchedulerUtil;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Writes storage contents back to the PDC of their holder.
+ * <p>
+ * Clicks only mark a storage dirty, its contents being written once when it is closed, when
+ * its chunk unloads or at the configured interval. Writes are skipped while the contents hash
+ * the same as the last written ones, as every write serializes the whole inventory and marks
+ * the holder's chunk for saving.
+ */
+public class StorageSaver implements Listener {
+
+    // Use thread-safe collections for Folia compatibility (concurrent region thread access)
+    private static final Set<Save> dirtySaves = ConcurrentHashMap.newKeySet();
+    private static SchedulerUtil.ScheduledTask task;
+
+    /**
+     * @param holder the entity the contents are written to, or null if it is a block at the given location
+     * @param writer writes the contents to the holder
+     */
+    public static Save track(StorageGui gui, Location location, @Nullable Entity holder, Consumer<ItemStack[]> writer) {
+        return new Save(gui, location, holder, writer);
+    }
+
+    /**
+     * @return the amount of ticks between saves of dirty storages, or 0 if they are only saved on close and chunk unload
+     */
+    public static int getInterval() {
+        return Math.max(0, (int) Settings.STORAGE_SAVE_INTERVAL.getValue());
+    }
+
+    /**
+     * Saves every dirty storage right away, used when the plugin is disabled.
+     */
+    public static void flushAll() {
+        for (Save save : new ArrayList<>(dirtySaves)) save.flush();
+        synchronized (StorageSaver.class) {
+            cancelTask();
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        if (dirtySaves.isEmpty()) return;
+        Chunk chunk = event.getChunk();
+        for (Save save : dirtySaves) {
+            if (save.holder instanceof Player) continue;
+            Location location = save.holder != null ? save.holder.getLocation() : save.location;
+            if (location.getWorld() == chunk.getWorld()
+                    && location.getBlockX() >> 4 == chunk.getX() && location.getBlockZ() >> 4 == chunk.getZ())
+                save.flush();
+        }
+    }
+
+    private static void schedule(Save save) {
+        if (!dirtySaves.add(save)) return;
+        int interval = getInterval();
+        if (interval <= 0) return;
+        synchronized (StorageSaver.class) {
+            if (task == null) task = SchedulerUtil.runTaskTimer(interval, interval, StorageSaver::tick);
+        }
+    }
+
+    private static void tick() {
+        List<Save> due = new ArrayList<>(dirtySaves);
+        dirtySaves.removeAll(due);
+        // Write on the holder's region thread for Folia compatibility
+        for (Save save : due) {
+            if (save.holder != null) SchedulerUtil.runForEntity(save.holder, save::flush);
+            else SchedulerUtil.runAtLocation(save.location, save::flush);
+        }
+
+        synchronized (StorageSaver.class) {
+            if (dirtySaves.isEmpty()) cancelTask();
+        }
+    }
+
+    private static void cancelTask() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    public static final class Save {
+        private final StorageGui gui;
+        private final Location location;
+        private final Entity holder;
+        private final Consumer<ItemStack[]> writer;
+        private volatile boolean dirty;
+        private volatile int savedHash;
+
+        private Save(StorageGui gui, Location location, @Nullable Entity holder, Consumer<ItemStack[]> writer) {
+            this.gui = gui;
+            this.location = location;
+            this.holder = holder;
+            this.writer = writer;
+        }
+
+        /**
+         * Marks the current contents as the ones stored in the holder, after they were read from it.
+         */
+        public void loaded() {
+            savedHash = Arrays.hashCode(gui.getInventory().getContents());
+        }
+
+        public void markDirty() {
+            dirty = true;
+            schedule(this);
+        }
+
+        /**
+         * @return whether the contents changed since they were last written, making the holder's contents stale
+         */
+        public boolean isDirty() {
+            return dirty;
+        }
+
+        /**
+         * Writes the contents to the holder if they changed since they were last written.
+         */
+        public void flush() {
+            dirtySaves.remove(this);
+            if (!dirty) return;
+            dirty = false;
+            ItemStack[] contents = gui.getInventory().getContents();
+            int hash = Arrays.hashCode(contents);
+            if (hash == savedHash) return;
+            savedHash = hash;
+            writer.accept(contents);
+        }
+    }
+}
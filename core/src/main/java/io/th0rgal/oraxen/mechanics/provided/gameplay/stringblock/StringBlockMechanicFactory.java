@@ -192,6 +192,10 @@ public class StringBlockMechanicFactory extends MechanicFactory {
         return createTripwireData(((StringBlockMechanic) getInstance().getMechanic(itemID)).getCustomVariation());
     }
 
+    public static SaplingTask getSaplingTask() {
+        return saplingTask;
+    }
+
     public void registerSaplingMechanic() {
         if (sapling) return;
         if (saplingTask != null) saplingTask.cancel();
@@ -208,10 +212,16 @@ public class StringBlockMechanicFactory extends MechanicFactory {
 //        if (saplingList.isEmpty()) return;
 
         saplingTask = new SaplingTask(saplingGrowthCheckDelay);
+        MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(), saplingTask);
         MechanicsManager.registerTask(getMechanicID(), saplingTask.start(0, saplingGrowthCheckDelay));
         sapling = true;
     }
 
+    public static void unregisterSaplingMechanic() {
+        if (saplingTask != null)
+            saplingTask.cancel();
+    }
+
     @Override
     public @Nullable String getMechanicCategory() {
         return "gameplay";
@@ -45,7 +45,7 @@ public class SaplingListener implements Listener {
         if (sapling.requiresWaterSource() && sapling.isUnderWater(block)) return;
         if (!sapling.canGrowFromBoneMeal()) return;
         if (!PluginUtils.isEnabled("WorldEdit")) return;
-        if (!sapling.replaceBlocks() && !WrappedWorldEdit.getBlocksInSchematic(loc, sapling.getSchematic()).isEmpty()) return;
+        if (!sapling.replaceBlocks() && WrappedWorldEdit.hasBlocksInSchematic(loc, sapling.getSchematic())) return;
 
         if (player.getGameMode() != GameMode.CREATIVE) item.setAmount(item.getAmount() - 1);
         block.getWorld().playEffect(loc, Effect.BONE_MEAL_USE, 3);
@@ -57,7 +57,11 @@ public class SaplingListener implements Listener {
             if (sapling.hasGrowSound())
                 player.playSound(loc, sapling.getGrowSound(), 1.0f, 0.8f);
             WrappedWorldEdit.pasteSchematic(loc, sapling.getSchematic(), sapling.replaceBlocks(), sapling.copyBiomes(), sapling.copyEntities());
-        } else pdc.set(SAPLING_KEY, PersistentDataType.INTEGER, growthTimeRemains);
+        } else {
+            pdc.set(SAPLING_KEY, PersistentDataType.INTEGER, growthTimeRemains);
+            // Reschedule the sapling for its shortened growth time
+            SaplingTask.track(block);
+        }
     }
 }
 
@@ -5,22 +5,45 @@ import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.api.OraxenBlocks;
 import io.th0rgal.oraxen.compatibilities.provided.worldedit.WrappedWorldEdit;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.StringBlockMechanic;
+import io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.StringBlockMechanicFactory;
 import io.th0rgal.oraxen.utils.BlockHelpers;
+import io.th0rgal.oraxen.utils.ChunkKey;
+import io.th0rgal.oraxen.utils.DueQueue;
 import io.th0rgal.oraxen.utils.PluginUtils;
 import io.th0rgal.oraxen.utils.SchedulerUtil;
+import io.th0rgal.oraxen.utils.VersionUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.util.List;
+import java.util.Set;
+
 import static io.th0rgal.oraxen.mechanics.provided.gameplay.stringblock.sapling.SaplingMechanic.SAPLING_KEY;
+import static io.th0rgal.oraxen.utils.DueQueue.UNTRACK;
 
-public class SaplingTask implements Runnable {
+/**
+ * Grows saplings.
+ * <p>
+ * Saplings in loaded chunks are kept in a queue ordered by the run they are due to grow,
+ * filled on placement and chunk load and emptied on chunk unload. Saplings that only wait
+ * for time are skipped until due, the remaining growth time in their PDC being written back
+ * when they are checked, unloaded or the task is cancelled. Saplings requiring light or water
+ * are checked every run, as their growth pauses while the requirement is not met.
+ */
+public class SaplingTask implements Runnable, Listener {
 
     private final int delay;
+    private final DueQueue<Block, Block> saplings = new DueQueue<>(block -> block, ChunkKey::of);
     private SchedulerUtil.ScheduledTask scheduledTask;
 
     public SaplingTask(int delay) {
@@ -28,6 +51,10 @@ public class SaplingTask implements Runnable {
     }
 
     public SchedulerUtil.ScheduledTask start(long initialDelay, long period) {
+        // Chunks loaded before the task existed are only scanned once
+        for (World world : Bukkit.getWorlds())
+            for (Chunk chunk : world.getLoadedChunks())
+                trackChunk(chunk);
         scheduledTask = SchedulerUtil.runTaskTimer(initialDelay, period, this);
         return scheduledTask;
     }
@@ -37,45 +64,108 @@ public class SaplingTask implements Runnable {
             scheduledTask.cancel();
             scheduledTask = null;
         }
+        List<DueQueue.Entry<Block>> remaining = saplings.clear();
+        // Blocks are only safe to touch from here outside of Folia
+        if (!VersionUtil.isFoliaServer()) remaining.forEach(this::flush);
+    }
+
+    /**
+     * Registers a sapling with the running task, to be checked on its next run.
+     */
+    public static void track(Block block) {
+        SaplingTask task = StringBlockMechanicFactory.getSaplingTask();
+        if (task != null) task.saplings.schedule(block, 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        trackChunk(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        saplings.untrackChunk(ChunkKey.of(event.getChunk())).forEach(this::flush);
+    }
+
+    /**
+     * Tracks the saplings of the chunk.
+     */
+    private void trackChunk(Chunk chunk) {
+        Set<Block> blocks = CustomBlockData.getBlocksWithCustomData(OraxenPlugin.get(), chunk);
+        if (blocks.isEmpty()) return;
+        PersistentDataContainer chunkPdc = chunk.getPersistentDataContainer();
+        for (Block block : blocks) {
+            PersistentDataContainer pdc = chunkPdc.get(BlockHelpers.getPDCKey(block), PersistentDataType.TAG_CONTAINER);
+            if (pdc != null && pdc.has(SAPLING_KEY, PersistentDataType.INTEGER)) saplings.schedule(block, 1);
+        }
     }
 
     @Override
     public void run() {
         if (!PluginUtils.isEnabled("WorldEdit")) return;
-        for (World world : Bukkit.getWorlds()) {
-            for (Chunk chunk : world.getLoadedChunks()) {
-                for (Block block : CustomBlockData.getBlocksWithCustomData(OraxenPlugin.get(), chunk)) {
-                    // Run block operations on the block's region thread for Folia compatibility
-                    SchedulerUtil.runAtLocation(block.getLocation(), () -> processSapling(block));
-                }
-            }
+        long run = saplings.nextRun();
+        for (DueQueue.Entry<Block> entry : saplings.due(run)) {
+            Block block = entry.value();
+            // Run block operations on the block's region thread for Folia compatibility
+            SchedulerUtil.runAtLocation(block.getLocation(), () -> {
+                if (entry.isRemoved()) return;
+                int elapsed = (int) Math.min(Integer.MAX_VALUE, entry.runsSince(run) * delay);
+                saplings.reschedule(entry, run, processSapling(block, elapsed));
+            });
         }
     }
 
-    private void processSapling(Block block) {
+    /**
+     * Writes the growth time elapsed since the last check of a sapling that was skipped.
+     */
+    private void flush(DueQueue.Entry<Block> entry) {
+        Block block = entry.value();
+        long skipped = saplings.flush(entry);
+        if (skipped <= 0 || block.getType() != Material.TRIPWIRE) return;
         PersistentDataContainer pdc = BlockHelpers.getPDC(block);
-        if (pdc.has(SAPLING_KEY, PersistentDataType.INTEGER) && block.getType() == Material.TRIPWIRE) {
-            StringBlockMechanic string = OraxenBlocks.getStringMechanic(block);
-            if (string == null || !string.isSapling()) return;
-
-            SaplingMechanic sapling = string.getSaplingMechanic();
-            if (sapling == null || !sapling.hasSchematic()) return;
-            if (!sapling.canGrowNaturally()) return;
-            if (sapling.requiresWaterSource() && !sapling.isUnderWater(block)) return;
-            if (sapling.requiresLight() && block.getLightLevel() < sapling.getMinLightLevel()) return;
-            if (!sapling.replaceBlocks() && !WrappedWorldEdit.getBlocksInSchematic(block.getLocation(), sapling.getSchematic()).isEmpty()) return;
-
-            int growthTimeRemains = pdc.getOrDefault(SAPLING_KEY, PersistentDataType.INTEGER, 0) - delay;
-            if (growthTimeRemains <= 0) {
-                block.setType(Material.AIR, false);
-                if (sapling.hasGrowSound())
-                    block.getWorld().playSound(block.getLocation(), sapling.getGrowSound(), 1.0f, 0.8f);
-                WrappedWorldEdit.pasteSchematic(block.getLocation(), sapling.getSchematic(), sapling.replaceBlocks(), sapling.copyBiomes(), sapling.copyEntities());
-            } else {
-                pdc.set(SAPLING_KEY, PersistentDataType.INTEGER, growthTimeRemains);
-            }
-        } else if (pdc.has(SAPLING_KEY, PersistentDataType.INTEGER) && block.getType() != Material.TRIPWIRE) {
+        Integer growthTimeRemains = pdc.get(SAPLING_KEY, PersistentDataType.INTEGER);
+        if (growthTimeRemains == null) return;
+        pdc.set(SAPLING_KEY, PersistentDataType.INTEGER, (int) Math.max(0, growthTimeRemains - skipped * delay));
+    }
+
+    /**
+     * @param elapsed the growth time elapsed since the last check
+     * @return the amount of runs until the next check is due, or {@link #UNTRACK} if it is not a growing sapling anymore
+     */
+    private long processSapling(Block block, int elapsed) {
+        PersistentDataContainer pdc = BlockHelpers.getPDC(block);
+        if (!pdc.has(SAPLING_KEY, PersistentDataType.INTEGER)) return UNTRACK;
+        if (block.getType() != Material.TRIPWIRE) {
             pdc.remove(SAPLING_KEY);
+            return UNTRACK;
+        }
+
+        StringBlockMechanic string = OraxenBlocks.getStringMechanic(block);
+        if (string == null || !string.isSapling()) return UNTRACK;
+
+        SaplingMechanic sapling = string.getSaplingMechanic();
+        if (sapling == null || !sapling.hasSchematic()) return UNTRACK;
+        if (!sapling.canGrowNaturally()) return UNTRACK;
+        boolean conditional = sapling.requiresWaterSource() || sapling.requiresLight();
+        if (sapling.requiresWaterSource() && !sapling.isUnderWater(block)) return 1;
+        if (sapling.requiresLight() && block.getLightLevel() < sapling.getMinLightLevel()) return 1;
+
+        int growthTimeRemains = pdc.getOrDefault(SAPLING_KEY, PersistentDataType.INTEGER, 0) - elapsed;
+        if (growthTimeRemains <= 0) {
+            // Only worth looking for obstructions once it is ready to grow, it retries every run until clear
+            if (!sapling.replaceBlocks() && WrappedWorldEdit.hasBlocksInSchematic(block.getLocation(), sapling.getSchematic())) {
+                pdc.set(SAPLING_KEY, PersistentDataType.INTEGER, 0);
+                return 1;
+            }
+            block.setType(Material.AIR, false);
+            if (sapling.hasGrowSound())
+                block.getWorld().playSound(block.getLocation(), sapling.getGrowSound(), 1.0f, 0.8f);
+            WrappedWorldEdit.pasteSchematic(block.getLocation(), sapling.getSchematic(), sapling.replaceBlocks(), sapling.copyBiomes(), sapling.copyEntities());
+            return UNTRACK;
         }
+
+        pdc.set(SAPLING_KEY, PersistentDataType.INTEGER, growthTimeRemains);
+        if (conditional || delay <= 0) return 1;
+        return (growthTimeRemains + delay - 1) / delay;
     }
 }
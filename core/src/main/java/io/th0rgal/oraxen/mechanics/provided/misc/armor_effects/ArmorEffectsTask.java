@@ -2,7 +2,6 @@ package io.th0rgal.oraxen.mechanics.provided.misc.armor_effects;
 
 import io.th0rgal.oraxen.utils.SchedulerUtil;
 import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
 
 public class ArmorEffectsTask implements Runnable {
 
@@ -22,9 +21,7 @@ public class ArmorEffectsTask implements Runnable {
 
     @Override
     public void run() {
-        // Schedule on each player's region thread for Folia compatibility
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            SchedulerUtil.runForEntity(player, () -> ArmorEffectsMechanic.addEffects(player));
-        }
+        // Batched per region thread for Folia compatibility
+        SchedulerUtil.runForEntities(Bukkit.getOnlinePlayers(), ArmorEffectsMechanic::addEffects);
     }
 }
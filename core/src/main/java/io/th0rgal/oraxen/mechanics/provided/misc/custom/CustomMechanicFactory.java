@@ -1,10 +1,13 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom;
 
+import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.mechanics.ConfigProperty;
 import io.th0rgal.oraxen.mechanics.Mechanic;
 import io.th0rgal.oraxen.mechanics.MechanicFactory;
 import io.th0rgal.oraxen.mechanics.MechanicInfo;
+import io.th0rgal.oraxen.mechanics.MechanicsManager;
 import io.th0rgal.oraxen.mechanics.PropertyType;
+import io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners.CustomListenerDispatcher;
 import org.bukkit.configuration.ConfigurationSection;
 
 @MechanicInfo(
@@ -18,6 +21,7 @@ public class CustomMechanicFactory extends MechanicFactory {
 
     public CustomMechanicFactory(ConfigurationSection section) {
         super(section);
+        MechanicsManager.registerListeners(OraxenPlugin.get(), getMechanicID(), new CustomListenerDispatcher());
     }
 
     @Override
@@ -1,9 +1,7 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
 
-import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEvent;
 import io.th0rgal.oraxen.utils.actions.ClickAction;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.player.PlayerItemBreakEvent;
 import org.bukkit.inventory.ItemStack;
 
@@ -13,11 +11,7 @@ public class BreakListener extends CustomListener {
         super(itemID, cooldown, event, clickAction);
     }
 
-    @EventHandler
-    public void onBroken(PlayerItemBreakEvent event) {
-        ItemStack item = event.getBrokenItem();
-        if (!itemID.equals(OraxenItems.getIdByItem(item)))
-            return;
+    void onBroken(PlayerItemBreakEvent event, ItemStack item) {
         perform(event.getPlayer(), item);
     }
 }
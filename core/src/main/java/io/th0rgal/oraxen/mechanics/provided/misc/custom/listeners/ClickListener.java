@@ -1,9 +1,7 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
 
-import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEvent;
 import io.th0rgal.oraxen.utils.actions.ClickAction;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
@@ -58,14 +56,9 @@ public class ClickListener extends CustomListener {
         }
     }
 
-    @EventHandler
-    public void onClicked(PlayerInteractEvent event) {
-        if (interactActions.contains(event.getAction())) {
-            ItemStack item = event.getItem();
-            if (!itemID.equals(OraxenItems.getIdByItem(item)))
-                return;
+    void onClicked(PlayerInteractEvent event, ItemStack item) {
+        if (interactActions.contains(event.getAction()))
             perform(event.getPlayer(), item);
-        }
     }
 
 }
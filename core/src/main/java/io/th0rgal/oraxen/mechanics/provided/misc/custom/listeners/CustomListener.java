@@ -1,17 +1,16 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
 
-import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEvent;
 import io.th0rgal.oraxen.utils.actions.ClickAction;
 import io.th0rgal.oraxen.utils.timers.Timer;
 import io.th0rgal.oraxen.utils.timers.TimersFactory;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 
-public abstract class CustomListener implements Listener {
+/**
+ * Actions run when an event happens to a specific item, dispatched by {@link CustomListenerDispatcher}.
+ */
+public abstract class CustomListener {
 
     protected final String itemID;
     protected final TimersFactory timers;
@@ -27,11 +26,11 @@ public abstract class CustomListener implements Listener {
     }
 
     public void register() {
-        Bukkit.getPluginManager().registerEvents(this, OraxenPlugin.get());
+        CustomListenerDispatcher.register(this);
     }
 
     public void unregister() {
-        HandlerList.unregisterAll(this);
+        CustomListenerDispatcher.unregister(this);
     }
 
     public void perform(Player player, ItemStack itemStack) {
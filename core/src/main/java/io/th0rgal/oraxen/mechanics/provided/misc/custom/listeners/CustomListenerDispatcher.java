@@ -0,0 +1,114 @@
+package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
+
+import io.th0rgal.oraxen.api.OraxenItems;
+import io.th0rgal.oraxen.utils.armorequipevent.ArmorEquipEvent;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Single listener dispatching every event type to the {@link CustomListener}s of the involved item.
+ * <p>
+ * Custom listeners are indexed by type and item ID, so an event resolves the ID of its item once
+ * and only reaches the listeners of that item, no matter how many items use custom events.
+ */
+public class CustomListenerDispatcher implements Listener {
+
+    // Use thread-safe collections for Folia compatibility (concurrent region thread access)
+    private static final Map<Class<? extends CustomListener>, Map<String, List<CustomListener>>> LISTENERS = new ConcurrentHashMap<>();
+
+    static void register(CustomListener listener) {
+        LISTENERS.computeIfAbsent(listener.getClass(), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(listener.itemID, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    static void unregister(CustomListener listener) {
+        Map<String, List<CustomListener>> byItem = LISTENERS.get(listener.getClass());
+        if (byItem == null) return;
+        byItem.computeIfPresent(listener.itemID, (id, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends CustomListener> List<T> getListeners(Class<T> type, ItemStack item) {
+        Map<String, List<CustomListener>> byItem = LISTENERS.get(type);
+        // Only resolve the item ID when some item listens to this event
+        if (byItem == null || byItem.isEmpty() || item == null) return List.of();
+        String itemID = OraxenItems.getIdByItem(item);
+        if (itemID == null) return List.of();
+        return (List<T>) byItem.getOrDefault(itemID, List.of());
+    }
+
+    @EventHandler
+    public void onBroken(PlayerItemBreakEvent event) {
+        ItemStack item = event.getBrokenItem();
+        for (BreakListener listener : getListeners(BreakListener.class, item))
+            listener.onBroken(event, item);
+    }
+
+    @EventHandler
+    public void onClicked(PlayerInteractEvent event) {
+        ItemStack item = event.getItem();
+        for (ClickListener listener : getListeners(ClickListener.class, item))
+            listener.onClicked(event, item);
+    }
+
+    @EventHandler
+    public void onDeath(PlayerDeathEvent event) {
+        if (!LISTENERS.containsKey(DeathListener.class)) return;
+        for (ItemStack drop : event.getDrops())
+            for (DeathListener listener : getListeners(DeathListener.class, drop))
+                listener.onDeath(event, drop);
+    }
+
+    @EventHandler
+    public void onDropped(PlayerDropItemEvent event) {
+        ItemStack item = event.getItemDrop().getItemStack();
+        for (DropListener listener : getListeners(DropListener.class, item))
+            listener.onDropped(event, item);
+    }
+
+    @EventHandler
+    public void onEquipArmor(final ArmorEquipEvent event) {
+        ItemStack newArmor = event.getNewArmorPiece();
+        for (EquipListener listener : getListeners(EquipListener.class, newArmor))
+            listener.onEquipArmor(event, newArmor);
+    }
+
+    @EventHandler
+    public void onUnEquipArmor(final ArmorEquipEvent event) {
+        ItemStack oldArmor = event.getOldArmorPiece();
+        for (UnequipListener listener : getListeners(UnequipListener.class, oldArmor))
+            listener.onUnEquipArmor(event, oldArmor);
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onInvClick(InventoryClickEvent event) {
+        ItemStack clicked = event.getCurrentItem();
+        for (InvClickListener listener : getListeners(InvClickListener.class, clicked))
+            listener.onInvClick(event, clicked);
+    }
+
+    @EventHandler
+    public void onPickedUp(EntityPickupItemEvent event) {
+        if (!(event.getEntity() instanceof Player)) return;
+        ItemStack item = event.getItem().getItemStack();
+        for (PickupListener listener : getListeners(PickupListener.class, item))
+            listener.onPickedUp(event, item);
+    }
+}
@@ -1,9 +1,7 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
 
-import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEvent;
 import io.th0rgal.oraxen.utils.actions.ClickAction;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.inventory.ItemStack;
 
@@ -14,10 +12,7 @@ public class DropListener extends CustomListener {
         super(itemID, cooldown, event, clickAction);
     }
 
-    @EventHandler
-    public void onDropped(PlayerDropItemEvent event) {
-        ItemStack item = event.getItemDrop().getItemStack();
-        if (!itemID.equals(OraxenItems.getIdByItem(item))) return;
+    void onDropped(PlayerDropItemEvent event, ItemStack item) {
         perform(event.getPlayer(), item);
     }
 
@@ -1,10 +1,8 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
 
-import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEvent;
 import io.th0rgal.oraxen.utils.actions.ClickAction;
 import io.th0rgal.oraxen.utils.armorequipevent.ArmorEquipEvent;
-import org.bukkit.event.EventHandler;
 import org.bukkit.inventory.ItemStack;
 
 public class EquipListener extends CustomListener {
@@ -13,10 +11,7 @@ public class EquipListener extends CustomListener {
         super(itemID, cooldown, event, clickAction);
     }
 
-    @EventHandler
-    public void onEquipArmor(final ArmorEquipEvent event) {
-        ItemStack newArmor = event.getNewArmorPiece();
-        if (newArmor == null || !itemID.equals(OraxenItems.getIdByItem(newArmor))) return;
+    void onEquipArmor(final ArmorEquipEvent event, ItemStack newArmor) {
         perform(event.getPlayer(), newArmor);
     }
 }
@@ -1,11 +1,8 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
 
-import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEvent;
 import io.th0rgal.oraxen.utils.actions.ClickAction;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 
@@ -15,10 +12,7 @@ public class InvClickListener extends CustomListener {
         super(itemID, cooldown, event, clickAction);
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
-    public void onInvClick(InventoryClickEvent event) {
-        ItemStack clicked = event.getCurrentItem();
-        if (clicked != null && itemID.equals(OraxenItems.getIdByItem(clicked)))
-            perform((Player) event.getWhoClicked(), clicked);
+    void onInvClick(InventoryClickEvent event, ItemStack clicked) {
+        perform((Player) event.getWhoClicked(), clicked);
     }
 }
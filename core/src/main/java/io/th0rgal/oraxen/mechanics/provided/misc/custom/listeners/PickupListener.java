@@ -1,10 +1,8 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
 
-import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEvent;
 import io.th0rgal.oraxen.utils.actions.ClickAction;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.inventory.ItemStack;
 
@@ -15,13 +13,8 @@ public class PickupListener extends CustomListener {
         super(itemID, cooldown, event, clickAction);
     }
 
-    @EventHandler
-    public void onPickedUp(EntityPickupItemEvent event) {
-        if (!(event.getEntity() instanceof Player player)) return;
-        ItemStack item = event.getItem().getItemStack();
-        if (!itemID.equals(OraxenItems.getIdByItem(item)))
-            return;
-        perform(player, item);
+    void onPickedUp(EntityPickupItemEvent event, ItemStack item) {
+        perform((Player) event.getEntity(), item);
     }
 
 }
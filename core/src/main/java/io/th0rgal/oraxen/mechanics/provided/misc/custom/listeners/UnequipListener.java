@@ -1,10 +1,8 @@
 package io.th0rgal.oraxen.mechanics.provided.misc.custom.listeners;
 
-import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.mechanics.provided.misc.custom.fields.CustomEvent;
 import io.th0rgal.oraxen.utils.actions.ClickAction;
 import io.th0rgal.oraxen.utils.armorequipevent.ArmorEquipEvent;
-import org.bukkit.event.EventHandler;
 import org.bukkit.inventory.ItemStack;
 
 public class UnequipListener extends CustomListener {
@@ -13,10 +11,7 @@ public class UnequipListener extends CustomListener {
         super(itemID, cooldown, event, clickAction);
     }
 
-    @EventHandler
-    public void onUnEquipArmor(final ArmorEquipEvent event) {
-        ItemStack oldArmor = event.getOldArmorPiece();
-        if (oldArmor == null || !itemID.equals(OraxenItems.getIdByItem(oldArmor))) return;
+    void onUnEquipArmor(final ArmorEquipEvent event, ItemStack oldArmor) {
         perform(event.getPlayer(), oldArmor);
     }
 }
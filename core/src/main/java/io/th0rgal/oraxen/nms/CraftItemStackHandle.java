@@ -0,0 +1,70 @@
+package io.th0rgal.oraxen.nms;
+
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+/**
+ * Gives NMS handlers access to the net.minecraft ItemStack backing a Bukkit ItemStack,
+ * without going through CraftItemStack#asNMSCopy or ItemStack#getItemMeta, which both copy it.
+ */
+public final class CraftItemStackHandle {
+
+    private static final Class<?> CRAFT_ITEM_STACK;
+    private static final MethodHandle HANDLE;
+    // Paper backs plain Bukkit ItemStacks by a CraftItemStack on newer versions
+    private static final MethodHandle CRAFT_DELEGATE;
+
+    static {
+        Class<?> craftItemStack = null;
+        MethodHandle handle = null;
+        MethodHandle craftDelegate = null;
+        try {
+            craftItemStack = Class.forName(Bukkit.getServer().getClass().getPackageName() + ".inventory.CraftItemStack");
+            handle = getter(craftItemStack, "handle");
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+        }
+        try {
+            craftDelegate = getter(ItemStack.class, "craftDelegate");
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+        }
+        CRAFT_ITEM_STACK = craftItemStack;
+        HANDLE = handle;
+        CRAFT_DELEGATE = craftDelegate;
+    }
+
+    private CraftItemStackHandle() {
+    }
+
+    private static MethodHandle getter(Class<?> owner, String name) throws ReflectiveOperationException {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        return MethodHandles.lookup().unreflectGetter(field);
+    }
+
+    /**
+     * @return the net.minecraft ItemStack backing the given item, or null if it is not backed by one
+     */
+    @Nullable
+    public static Object get(@Nullable ItemStack itemStack) {
+        if (itemStack == null || HANDLE == null)
+            return null;
+        try {
+            Object craftStack = itemStack;
+            if (itemStack.getClass() != CRAFT_ITEM_STACK) {
+                if (CRAFT_DELEGATE == null)
+                    return null;
+                craftStack = CRAFT_DELEGATE.invoke(itemStack);
+                if (craftStack == null || craftStack.getClass() != CRAFT_ITEM_STACK)
+                    return null;
+            }
+            return HANDLE.invoke(craftStack);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
@@ -6,20 +6,25 @@ import com.google.gson.JsonParser;
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.font.Glyph;
+import io.th0rgal.oraxen.font.GlyphMatcher;
 import io.th0rgal.oraxen.utils.AdventureUtils;
 import io.th0rgal.oraxen.utils.logs.Logs;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.translation.GlobalTranslator;
-import org.apache.commons.lang3.StringUtils;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class GlyphHandlers {
 
@@ -49,64 +54,120 @@ public class GlyphHandlers {
 
     private static Component escapeGlyphs(Component component, @NotNull Player player) {
         component = GlobalTranslator.render(component, player.locale());
-        String serialized = AdventureUtils.MINI_MESSAGE.serialize(component);
+        GlyphMatcher<Glyph> matcher = OraxenPlugin.get().getFontManager().getGlyphMatcher();
+        Map<Glyph, Boolean> permitted = new HashMap<>();
+
+        return replaceGlyphs(component, text -> matcher.find(text, true), (match, matched) -> {
+            if (permitted.computeIfAbsent(match.glyph(), glyph -> glyph.hasPermission(player))) return null;
+            // Replace raw unicode usage of non-permissed Glyphs with random font
+            // This will always show a white square
+            if (match.kind() == GlyphMatcher.Kind.CHARACTER)
+                return match.glyph().getGlyphComponent().font(randomKey);
+            // Escape all glyph-tags
+            if (match.escaped()) return null;
+            return AdventureUtils.MINI_MESSAGE.deserialize("\\" + matched);
+        });
+    }
 
-        // Replace raw unicode usage of non-permissed Glyphs with random font
-        // This will always show a white square
-        for (Glyph glyph : OraxenPlugin.get().getFontManager().getGlyphs()) {
-            if (glyph.hasPermission(player)) continue;
+    private static Component transformGlyphs(Component component, boolean isUtf) {
+        GlyphMatcher<Glyph> matcher = OraxenPlugin.get().getFontManager().getGlyphMatcher();
 
-            component = component.replaceText(
-                    TextReplacementConfig.builder()
-                            .matchLiteral(glyph.getCharacter())
-                            .replacement(glyph.getGlyphComponent().font(randomKey))
-                            .build()
-            );
+        return replaceGlyphs(component, text -> matcher.find(text, false), (match, matched) -> {
+            if (!match.escaped()) return match.glyph().getGlyphComponent();
+            return isUtf ? Component.text(matched) : null;
+        });
+    }
 
-            // Escape all glyph-tags
-            Matcher matcher = glyph.baseRegex.matcher(serialized);
-            while (matcher.find()) {
-                component = component.replaceText(
-                        TextReplacementConfig.builder().once()
-                                .matchLiteral(matcher.group())
-                                .replacement(AdventureUtils.MINI_MESSAGE.deserialize("\\" + matcher.group()))
-                                .build()
-                );
+    /**
+     * Rewrites the glyphs found in every text of a component tree, including translation arguments
+     * and hover texts. Texts without any replaced glyph keep their original component.
+     *
+     * @param replacer the replacement for a match and its matched text, or null to leave it as is.
+     *                 Escaped matches are replaced along with their backslash.
+     */
+    private static Component replaceGlyphs(Component component, Function<String, List<GlyphMatcher.Match<Glyph>>> finder,
+                                           BiFunction<GlyphMatcher.Match<Glyph>, String, Component> replacer) {
+        List<Component> children = component.children();
+        List<Component> replacedChildren = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component replaced = replaceGlyphs(child, finder, replacer);
+            if (replaced == child) continue;
+            if (replacedChildren == null) replacedChildren = new ArrayList<>(children);
+            replacedChildren.set(i, replaced);
+        }
+        if (replacedChildren != null) component = component.children(replacedChildren);
+
+        // TranslationArgument is missing from the Adventure version of older servers
+        if (component instanceof TranslatableComponent translatable && !translatable.args().isEmpty()) {
+            List<Component> arguments = translatable.args();
+            List<Component> replacedArguments = null;
+            for (int i = 0; i < arguments.size(); i++) {
+                Component argument = arguments.get(i);
+                Component replaced = replaceGlyphs(argument, finder, replacer);
+                if (replaced == argument) continue;
+                if (replacedArguments == null) replacedArguments = new ArrayList<>(arguments);
+                replacedArguments.set(i, replaced);
             }
+            if (replacedArguments != null) component = translatable.args(replacedArguments);
+        }
+
+        HoverEvent<?> hoverEvent = component.hoverEvent();
+        if (hoverEvent != null && hoverEvent.value() instanceof Component hoverText) {
+            Component replaced = replaceGlyphs(hoverText, finder, replacer);
+            if (replaced != hoverText) component = component.hoverEvent(HoverEvent.showText(replaced));
         }
 
+        if (component instanceof TextComponent text) component = replaceGlyphs(text, finder, replacer);
         return component;
     }
 
-    private static final Pattern colorableRegex = Pattern.compile("<glyph:.*:(c|colorable)>");
+    private static TextComponent replaceGlyphs(TextComponent component, Function<String, List<GlyphMatcher.Match<Glyph>>> finder,
+                                               BiFunction<GlyphMatcher.Match<Glyph>, String, Component> replacer) {
+        String content = component.content();
+        List<GlyphMatcher.Match<Glyph>> matches = finder.apply(content);
+        if (matches.isEmpty()) return component;
+
+        // Replaced text is split into siblings inheriting the style of the original text
+        String head = null;
+        List<Component> parts = new ArrayList<>();
+        int last = 0;
+        for (GlyphMatcher.Match<Glyph> match : matches) {
+            Component replacement = replacer.apply(match, content.substring(match.start(), match.end()));
+            if (replacement == null) continue;
+            String before = content.substring(last, match.escaped() ? match.start() - 1 : match.start());
+            if (head == null) head = before;
+            else if (!before.isEmpty()) parts.add(Component.text(before));
+            parts.add(replacement);
+            last = match.end();
+        }
+        if (head == null) return component;
 
-    private static Component transformGlyphs(Component component, boolean isUtf) {
-        String serialized = AdventureUtils.MINI_MESSAGE_EMPTY.serialize(component);
-
-        for (Glyph glyph : OraxenPlugin.get().getFontManager().getGlyphs()) {
-            Matcher matcher = glyph.baseRegex.matcher(serialized);
-            while (matcher.find()) {
-                component = component.replaceText(
-                        TextReplacementConfig.builder().once()
-                                .matchLiteral(matcher.group())
-                                .replacement(glyph.getGlyphComponent())
-                                .build());
-            }
+        if (last < content.length()) parts.add(Component.text(content.substring(last)));
+        parts.addAll(component.children());
+        return component.content(head).children(parts);
+    }
 
-            if (isUtf) {
-                matcher = glyph.escapedRegex.matcher(serialized);
-                while (matcher.find()) {
-                    component = component.replaceText(
-                            TextReplacementConfig.builder().once()
-                                    .matchLiteral(matcher.group())
-                                    .replacement(AdventureUtils.MINI_MESSAGE_EMPTY.deserialize(StringUtils.removeStart(matcher.group(), "\\")))
-                                    .build()
-                    );
-                }
-            }
-        }
+    /**
+     * Check run before parsing strings sent or received through packets, scanning the raw string
+     * with the glyph automaton and stopping at the first glyph found.
+     *
+     * @param characters whether raw glyph characters count, as they are only escaped for players
+     * @return false if the string does not contain any glyph tag, placeholder or character
+     */
+    public static boolean mayContainGlyphs(String string, boolean characters) {
+        return OraxenPlugin.get().getFontManager().getGlyphMatcher().anyMatch(string, characters);
+    }
 
-        return component;
+    /**
+     * Same as {@link #mayContainGlyphs(String, boolean)} for strings only worth handling if they are JSON objects.
+     */
+    public static boolean mayContainJsonGlyphs(String string, boolean characters) {
+        int start = 0;
+        while (start < string.length() && Character.isWhitespace(string.charAt(start))) start++;
+        if (start == string.length() || string.charAt(start) != '{') return false;
+        // Unicode escapes may hide any character
+        return string.contains("\\u") || mayContainGlyphs(string, characters);
     }
 
     public static String formatJsonString(@NotNull JsonObject obj, @Nullable Player player) {
@@ -120,6 +181,7 @@ public class GlyphHandlers {
 
     public static Function<String, String> transformer(@Nullable Player player) {
         return string -> {
+            if (!mayContainJsonGlyphs(string, player != null)) return string;
             try {
                 JsonElement element = JsonParser.parseString(string);
                 if (element.isJsonObject())
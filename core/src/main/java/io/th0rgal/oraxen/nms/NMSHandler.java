@@ -2,11 +2,14 @@ package io.th0rgal.oraxen.nms;
 
 import io.th0rgal.oraxen.items.ItemBuilder;
 import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -33,6 +36,39 @@ public interface NMSHandler {
      */
     ItemStack copyItemNBTTags(@NotNull ItemStack oldItem, @NotNull ItemStack newItem);
 
+    /**
+     * Reads a string from the PersistentDataContainer of an item.
+     * Implementations read it straight from the custom data of the underlying item,
+     * instead of copying the whole ItemMeta like ItemStack#getItemMeta does
+     *
+     * @param itemStack The ItemStack to read the value from
+     * @param key       The key the value is stored under
+     * @return The value, or null if the item has no string stored under this key
+     */
+    @Nullable
+    default String getPersistentDataString(@NotNull ItemStack itemStack, @NotNull NamespacedKey key) {
+        if (!itemStack.hasItemMeta())
+            return null;
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        return itemMeta == null ? null : itemMeta.getPersistentDataContainer().get(key, PersistentDataType.STRING);
+    }
+
+    /**
+     * Checks if the PersistentDataContainer of an item holds a value under the given key, of any type.
+     * Implementations read it straight from the custom data of the underlying item, like
+     * {@link #getPersistentDataString(ItemStack, NamespacedKey)}
+     *
+     * @param itemStack The ItemStack to check
+     * @param key       The key to look for
+     * @return Whether the item has a value stored under this key
+     */
+    default boolean hasPersistentData(@NotNull ItemStack itemStack, @NotNull NamespacedKey key) {
+        if (!itemStack.hasItemMeta())
+            return false;
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        return itemMeta != null && itemMeta.getPersistentDataContainer().has(key);
+    }
+
     /**
      * Corrects the BlockData of a placed block.
      * Mainly fired when placing a block against an OraxenNoteBlock due to vanilla
@@ -13,14 +13,26 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.jetbrains.annotations.Nullable;
 
 public class BukkitPackSender extends PackSender implements Listener {
 
     private static final String prompt = Settings.SEND_PACK_PROMPT.toString();
     private static final boolean mandatory = Settings.SEND_PACK_MANDATORY.toBool();
 
+    @Nullable
+    private final PackDispatchQueue dispatchQueue;
+
     public BukkitPackSender(HostingProvider hostingProvider) {
+        this(hostingProvider, null);
+    }
+
+    /**
+     * @param dispatchQueue the queue joining players are paced through, or null to send them the pack right away
+     */
+    public BukkitPackSender(HostingProvider hostingProvider, @Nullable PackDispatchQueue dispatchQueue) {
         super(hostingProvider);
+        this.dispatchQueue = dispatchQueue;
     }
 
     public void register() {
@@ -31,6 +43,11 @@ public class BukkitPackSender extends PackSender implements Listener {
         HandlerList.unregisterAll(this);
     }
 
+    private void queuePack(Player player) {
+        if (dispatchQueue != null) dispatchQueue.enqueue(player, true);
+        else sendPack(player);
+    }
+
     @Override
     public void sendPack(Player player) {
         if (VersionUtil.atOrAbove("1.20.3")) {
@@ -47,8 +64,8 @@ public class BukkitPackSender extends PackSender implements Listener {
         if (Settings.SEND_JOIN_MESSAGE.toBool()) sendWelcomeMessage(player, true);
         if (!Settings.SEND_PACK.toBool()) return;
         int delay = (int) Settings.SEND_PACK_DELAY.getValue();
-        if (delay <= 0) sendPack(player);
+        if (delay <= 0) queuePack(player);
         else SchedulerUtil.runTaskLaterAsync(delay * 20L, () ->
-                sendPack(player));
+                queuePack(player));
     }
 }
@@ -0,0 +1,126 @@
+package io.th0rgal.oraxen.pack.dispatch;
+
+import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.utils.SchedulerUtil;
+import io.th0rgal.oraxen.utils.VersionUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Sends the pack to players at a limited rate, so a reload does not make every client
+ * download it at once. Players who just joined are sent the pack before those waiting
+ * since a reload.
+ */
+public class PackDispatchQueue {
+
+    private final Supplier<PackSender> senderSupplier;
+    private final Deque<UUID> joining = new ArrayDeque<>();
+    private final Deque<UUID> waiting = new ArrayDeque<>();
+    private final Set<UUID> queued = new HashSet<>();
+    private SchedulerUtil.ScheduledTask task;
+    private double budget;
+    private int sent;
+
+    public PackDispatchQueue(Supplier<PackSender> senderSupplier) {
+        this.senderSupplier = senderSupplier;
+    }
+
+    /**
+     * @return the amount of players sent the pack per second, or 0 if sends are not paced
+     */
+    public static int getRate() {
+        return Math.max(0, (int) Settings.SEND_PACK_RATE.getValue());
+    }
+
+    /**
+     * Queues the pack for the given players, or sends it right away if sends are not paced.
+     *
+     * @param priority whether the players just joined and should be sent the pack first
+     */
+    public void enqueue(Collection<? extends Player> players, boolean priority) {
+        if (getRate() <= 0) {
+            players.forEach(this::send);
+            return;
+        }
+
+        synchronized (this) {
+            for (Player player : players) {
+                UUID uuid = player.getUniqueId();
+                if (queued.add(uuid)) (priority ? joining : waiting).addLast(uuid);
+                else if (priority && waiting.remove(uuid)) joining.addLast(uuid);
+            }
+            if (task == null && !queued.isEmpty()) {
+                budget = 0;
+                task = SchedulerUtil.runTaskTimer(1L, 1L, this::tick);
+            }
+        }
+    }
+
+    public void enqueue(Player player, boolean priority) {
+        enqueue(List.of(player), priority);
+    }
+
+    /**
+     * Drops every queued player, used when the sender is unregistered.
+     */
+    public synchronized void clear() {
+        joining.clear();
+        waiting.clear();
+        queued.clear();
+        cancelTask();
+    }
+
+    public synchronized int getJoiningCount() {
+        return joining.size();
+    }
+
+    public synchronized int getWaitingCount() {
+        return waiting.size();
+    }
+
+    public synchronized int getSentCount() {
+        return sent;
+    }
+
+    private void tick() {
+        int rate = getRate();
+        List<Player> batch = new ArrayList<>();
+        synchronized (this) {
+            // Unpaced since queued, flush everything left
+            budget = rate <= 0 ? queued.size() : Math.min(budget + rate / 20.0, Math.max(1, rate));
+            while (budget >= 1 && !queued.isEmpty()) {
+                UUID uuid = !joining.isEmpty() ? joining.pollFirst() : waiting.pollFirst();
+                queued.remove(uuid);
+                Player player = Bukkit.getPlayer(uuid);
+                if (player == null || !player.isOnline()) continue;
+                batch.add(player);
+                budget--;
+            }
+            sent += batch.size();
+            if (queued.isEmpty()) cancelTask();
+        }
+        batch.forEach(this::send);
+    }
+
+    private void send(Player player) {
+        PackSender sender = senderSupplier.get();
+        if (sender == null) return;
+        if (VersionUtil.isFoliaServer()) SchedulerUtil.runForEntity(player, () -> sender.sendPack(player));
+        else sender.sendPack(player);
+    }
+
+    private void cancelTask() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+}
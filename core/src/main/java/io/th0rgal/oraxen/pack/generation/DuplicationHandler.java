@@ -14,17 +14,13 @@ import org.bukkit.Material;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 public class DuplicationHandler {
 
@@ -73,11 +69,9 @@ public class DuplicationHandler {
 
                 // Generate the template new item file
                 VirtualFile first = duplicates.stream().findFirst().get();
-                InputStream newInput = new ByteArrayInputStream(mainItem.toString().getBytes(StandardCharsets.UTF_8));
                 VirtualFile newItem = new VirtualFile(Utils.getParentDirs(first.getPath()),
-                        Utils.removeParentDirs(first.getPath()), newInput);
+                        Utils.removeParentDirs(first.getPath()), mainItem.toString().getBytes(StandardCharsets.UTF_8));
                 newItem.setPath(newItem.getPath().replace("//", "/"));
-                newItem.setInputStream(newInput);
 
                 // Remove all the old fonts from output
                 output.removeAll(duplicates);
@@ -140,12 +134,10 @@ public class DuplicationHandler {
 
             // Create merged file
             VirtualFile first = duplicates.get(0);
-            InputStream newInput = new ByteArrayInputStream(
-                    mergedDefinition.toString().getBytes(StandardCharsets.UTF_8));
             VirtualFile merged = new VirtualFile(
                     Utils.getParentDirs(first.getPath()),
                     Utils.removeParentDirs(first.getPath()),
-                    newInput);
+                    mergedDefinition.toString().getBytes(StandardCharsets.UTF_8));
             merged.setPath(merged.getPath().replace("//", "/"));
 
             // Replace duplicates with merged file
@@ -215,7 +207,7 @@ public class DuplicationHandler {
             VirtualFile newDef = new VirtualFile(
                     "assets/minecraft/items",
                     itemName + ".json",
-                    new ByteArrayInputStream(itemDef.toString().getBytes(StandardCharsets.UTF_8)));
+                    itemDef.toString().getBytes(StandardCharsets.UTF_8));
             newDefinitions.add(newDef);
             existingItemDefs.add(itemName);
 
@@ -691,11 +683,9 @@ public class DuplicationHandler {
 
                 // Generate the template new font file
                 VirtualFile first = duplicates.stream().findFirst().get();
-                InputStream newInput = new ByteArrayInputStream(mainFont.toString().getBytes(StandardCharsets.UTF_8));
                 VirtualFile newFont = new VirtualFile(Utils.getParentDirs(first.getPath()),
-                        Utils.removeParentDirs(first.getPath()), newInput);
+                        Utils.removeParentDirs(first.getPath()), mainFont.toString().getBytes(StandardCharsets.UTF_8));
                 newFont.setPath(newFont.getPath().replace("//", "/"));
-                newFont.setInputStream(newInput);
 
                 // Remove all the old fonts from output
                 output.removeAll(duplicates);
@@ -755,48 +745,43 @@ public class DuplicationHandler {
     private static final String DUPLICATE_LINE_STRING = "// This file was recognized as a duplicate and was migrated into its relevant config(s)";
 
     /**
-     * Check if the file already exists in the zip file
+     * Attempts to migrate a file that was skipped because another file with the same path is already in the pack
      */
-    public static void checkForDuplicate(ZipOutputStream out, ZipEntry entry) {
-        String name = entry.getName();
+    public static void handleDuplicateEntry(String name) {
+        File duplicateFile;
+        Path packFolder = OraxenPlugin.get().getDataFolder().toPath().resolve("pack");
+        if (packFolder.resolve(name).toFile().exists())
+            duplicateFile = packFolder.resolve(name).toFile();
+        else
+            duplicateFile = packFolder.resolve(name.replace("assets/minecraft/", "")).toFile();
+        List<String> lines = null;
         try {
-            out.putNextEntry(entry);
-        } catch (IOException e) {
-            File duplicateFile;
-            Path packFolder = OraxenPlugin.get().getDataFolder().toPath().resolve("pack");
-            if (packFolder.resolve(name).toFile().exists())
-                duplicateFile = packFolder.resolve(name).toFile();
-            else
-                duplicateFile = packFolder.resolve(name.replace("assets/minecraft/", "")).toFile();
-            List<String> lines = null;
+            if (duplicateFile.getName().endsWith(".json"))
+                lines = FileUtils.readLines(duplicateFile, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            if (Settings.DEBUG.toBool())
+                ex.printStackTrace();
+        }
+        if (lines != null && lines.get(0).equals(DUPLICATE_LINE_STRING))
+            return;
+
+        Logs.logWarning("Duplicate file detected: <blue>" + name + "</blue> - Attempting to migrate it");
+        if (!Settings.MERGE_DUPLICATES.toBool()) {
+            Logs.logError("Not attempting to migrate duplicate file as <#22b14c>"
+                    + Settings.MERGE_DUPLICATES.getPath() + "</#22b14c> is disabled in settings.yml", true);
+        } else if (attemptToMigrateDuplicate(name)) {
+            Logs.logSuccess("Duplicate file fixed:<blue> " + name);
             try {
-                if (duplicateFile.getName().endsWith(".json"))
+                if (lines == null)
                     lines = FileUtils.readLines(duplicateFile, StandardCharsets.UTF_8);
-            } catch (IOException ex) {
-                if (Settings.DEBUG.toBool())
-                    ex.printStackTrace();
-            }
-            if (lines != null && lines.get(0).equals(DUPLICATE_LINE_STRING))
-                return;
-
-            Logs.logWarning("Duplicate file detected: <blue>" + name + "</blue> - Attempting to migrate it");
-            if (!Settings.MERGE_DUPLICATES.toBool()) {
-                Logs.logError("Not attempting to migrate duplicate file as <#22b14c>"
-                        + Settings.MERGE_DUPLICATES.getPath() + "</#22b14c> is disabled in settings.yml", true);
-            } else if (attemptToMigrateDuplicate(name)) {
-                Logs.logSuccess("Duplicate file fixed:<blue> " + name);
-                try {
-                    if (lines == null)
-                        lines = FileUtils.readLines(duplicateFile, StandardCharsets.UTF_8);
-                    lines.add(0, DUPLICATE_LINE_STRING);
-                    FileUtils.writeLines(duplicateFile, lines);
-                } catch (Exception ignored) {
-                    Logs.logError("Failed to delete the imported <blue>" + Utils.removeParentDirs(name)
-                            + "</blue> after migrating it");
-                }
-                Logs.logSuccess("It is advised to restart your server to ensure that any new conflicts are detected.",
-                        true);
+                lines.add(0, DUPLICATE_LINE_STRING);
+                FileUtils.writeLines(duplicateFile, lines);
+            } catch (Exception ignored) {
+                Logs.logError("Failed to delete the imported <blue>" + Utils.removeParentDirs(name)
+                        + "</blue> after migrating it");
             }
+            Logs.logSuccess("It is advised to restart your server to ensure that any new conflicts are detected.",
+                    true);
         }
     }
 
@@ -0,0 +1,254 @@
+package io.th0rgal.oraxen.pack.generation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.utils.VirtualFile;
+import io.th0rgal.oraxen.utils.logs.Logs;
+import org.apache.commons.io.FileUtils;
+import org.bukkit.Bukkit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Persistent build cache for {@link ResourcePack#generate()}.
+ * <p>
+ * Keeps a manifest of input file hashes (reusing the previous hash when size and
+ * modification time are unchanged) and the outputs of generation stages keyed by
+ * a hash of their inputs, so unchanged stages can be restored instead of regenerated.
+ * Everything lives under {@code plugins/Oraxen/cache/pack}.
+ */
+public class PackBuildCache {
+
+    private static final int CACHE_VERSION = 1;
+
+    private final File dataFolder;
+    private final File cacheFolder;
+    private final File stagesFolder;
+    private final File manifestFile;
+    private final String environmentHash;
+    private JsonObject previousInputs = new JsonObject();
+    private JsonObject stages = new JsonObject();
+    private JsonObject inputs = new JsonObject();
+
+    public PackBuildCache(File dataFolder) {
+        this.dataFolder = dataFolder;
+        this.cacheFolder = new File(dataFolder, "cache/pack");
+        this.stagesFolder = new File(cacheFolder, "stages");
+        this.manifestFile = new File(cacheFolder, "manifest.json");
+        this.environmentHash = hash(String.valueOf(CACHE_VERSION),
+                OraxenPlugin.get().getDescription().getVersion(), Bukkit.getBukkitVersion());
+    }
+
+    public static boolean isEnabled() {
+        return Settings.PACK_BUILD_CACHE.toBool();
+    }
+
+    /**
+     * Loads the manifest of the previous build, discarding it if it was written
+     * by another plugin or server version.
+     */
+    public void load() {
+        inputs = new JsonObject();
+        previousInputs = new JsonObject();
+        stages = new JsonObject();
+        if (!manifestFile.exists()) return;
+
+        try {
+            JsonObject manifest = JsonParser.parseString(Files.readString(manifestFile.toPath(), StandardCharsets.UTF_8)).getAsJsonObject();
+            if (!manifest.has("environment") || !environmentHash.equals(manifest.get("environment").getAsString())) {
+                invalidate();
+                return;
+            }
+            if (manifest.has("inputs")) previousInputs = manifest.getAsJsonObject("inputs");
+            if (manifest.has("stages")) stages = manifest.getAsJsonObject("stages");
+        } catch (Exception e) {
+            Logs.logWarning("Pack build cache manifest is corrupt, rebuilding it...");
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+            invalidate();
+        }
+    }
+
+    public void save() {
+        JsonObject manifest = new JsonObject();
+        manifest.addProperty("environment", environmentHash);
+        manifest.add("inputs", inputs);
+        manifest.add("stages", stages);
+        try {
+            Files.createDirectories(cacheFolder.toPath());
+            Files.writeString(manifestFile.toPath(), manifest.toString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Logs.logWarning("Failed to save the pack build cache manifest");
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+        }
+    }
+
+    public void invalidate() {
+        previousInputs = new JsonObject();
+        stages = new JsonObject();
+        FileUtils.deleteQuietly(cacheFolder);
+    }
+
+    /**
+     * Hashes a file, reusing the hash from the previous manifest when its size and
+     * modification time are unchanged.
+     */
+    public String hashFile(File file) {
+        String key = relativePath(file);
+        long size = file.length();
+        long modified = file.lastModified();
+
+        JsonElement previous = previousInputs.get(key);
+        if (previous == null) previous = inputs.get(key);
+        if (previous != null && previous.isJsonObject()) {
+            JsonObject entry = previous.getAsJsonObject();
+            if (entry.get("size").getAsLong() == size && entry.get("modified").getAsLong() == modified) {
+                inputs.add(key, entry);
+                return entry.get("sha1").getAsString();
+            }
+        }
+
+        String sha1;
+        try {
+            sha1 = hash(Files.readAllBytes(file.toPath()));
+        } catch (IOException e) {
+            sha1 = "missing";
+        }
+        JsonObject entry = new JsonObject();
+        entry.addProperty("size", size);
+        entry.addProperty("modified", modified);
+        entry.addProperty("sha1", sha1);
+        inputs.add(key, entry);
+        return sha1;
+    }
+
+    /**
+     * Hashes every file with the given extension below the given folders and files, in a stable order.
+     */
+    public String hashConfigs(String extension, File... roots) {
+        List<String> parts = new ArrayList<>();
+        for (File root : roots) {
+            if (root == null || !root.exists()) continue;
+            if (root.isFile()) {
+                parts.add(relativePath(root) + "=" + hashFile(root));
+                continue;
+            }
+            try (var stream = Files.walk(root.toPath())) {
+                stream.filter(Files::isRegularFile).map(Path::toFile)
+                        .filter(f -> f.getName().endsWith(extension))
+                        .sorted(Comparator.comparing(File::getPath))
+                        .forEach(f -> parts.add(relativePath(f) + "=" + hashFile(f)));
+            } catch (IOException e) {
+                parts.add(relativePath(root) + "=unreadable");
+            }
+        }
+        return hash(parts.toArray(String[]::new));
+    }
+
+    /**
+     * Restores the outputs of a stage if it was last built with the same key.
+     *
+     * @return true if the stage was restored and does not need to be regenerated
+     */
+    public boolean restore(String stage, String key, Consumer<VirtualFile> sink) {
+        JsonElement element = stages.get(stage);
+        if (element == null || !element.isJsonObject()) return false;
+        JsonObject entry = element.getAsJsonObject();
+        if (!key.equals(entry.get("key").getAsString())) return false;
+
+        File stageFolder = new File(stagesFolder, stage);
+        List<VirtualFile> restored = new ArrayList<>();
+        for (JsonElement pathElement : entry.getAsJsonArray("files")) {
+            String path = pathElement.getAsString();
+            File file = new File(stageFolder, path);
+            byte[] data;
+            try {
+                data = Files.readAllBytes(file.toPath());
+            } catch (IOException e) {
+                stages.remove(stage);
+                return false;
+            }
+            int slash = path.lastIndexOf('/');
+            restored.add(new VirtualFile(slash < 0 ? "" : path.substring(0, slash), path.substring(slash + 1), data));
+        }
+
+        restored.forEach(sink);
+        if (Settings.DEBUG.toBool()) Logs.logInfo("Restored pack stage <blue>" + stage + "</blue> from build cache");
+        return true;
+    }
+
+    /**
+     * Stores the outputs of a stage under the given key, replacing any previous outputs.
+     * The content of the given files is read into memory, so it stays readable afterwards.
+     */
+    public void store(String stage, String key, Collection<VirtualFile> files) {
+        File stageFolder = new File(stagesFolder, stage);
+        FileUtils.deleteQuietly(stageFolder);
+
+        JsonArray paths = new JsonArray();
+        try {
+            for (VirtualFile virtualFile : files) {
+                byte[] data = virtualFile.getBytes();
+                if (data == null) continue;
+                File file = new File(stageFolder, virtualFile.getPath());
+                Files.createDirectories(file.getParentFile().toPath());
+                Files.write(file.toPath(), data);
+                paths.add(virtualFile.getPath());
+            }
+        } catch (IOException e) {
+            Logs.logWarning("Failed to cache pack stage " + stage);
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+            stages.remove(stage);
+            return;
+        }
+
+        JsonObject entry = new JsonObject();
+        entry.addProperty("key", key);
+        entry.add("files", paths);
+        stages.add(stage, entry);
+    }
+
+    /**
+     * Hashes the content of a virtual file, leaving it readable afterwards.
+     */
+    public static String hash(VirtualFile virtualFile) {
+        byte[] data = virtualFile.getBytes();
+        return data == null ? "null" : hash(data);
+    }
+
+    public String hash(String... parts) {
+        return hash(String.join("\n", Arrays.asList(parts)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(data);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String relativePath(File file) {
+        Path base = dataFolder.toPath().toAbsolutePath();
+        Path path = file.toPath().toAbsolutePath();
+        return (path.startsWith(base) ? base.relativize(path) : path).toString().replace("\\", "/");
+    }
+}
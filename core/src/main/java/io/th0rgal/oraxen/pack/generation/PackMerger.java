@@ -107,7 +107,7 @@ public class PackMerger {
                 VirtualFile virtualFile = new VirtualFile(
                         getParentFolder(normalizedPath),
                         getFileName(normalizedPath),
-                        new ByteArrayInputStream(buffer)
+                        buffer
                 );
 
                 String filePath = virtualFile.getPath();
@@ -29,7 +29,6 @@ import io.th0rgal.oraxen.utils.customarmor.CustomArmorType;
 import io.th0rgal.oraxen.utils.customarmor.ShaderArmorTextures;
 import io.th0rgal.oraxen.utils.customarmor.TrimArmorDatapack;
 import io.th0rgal.oraxen.utils.logs.Logs;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -37,6 +36,8 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.Nullable;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import java.awt.AlphaComposite;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
@@ -45,8 +46,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 
 public class ResourcePack {
@@ -58,6 +60,8 @@ public class ResourcePack {
     private ComponentArmorModels componentArmorModels;
     private static final File packFolder = new File(OraxenPlugin.get().getDataFolder(), "pack");
     private final File pack = new File(packFolder, packFolder.getName() + ".zip");
+    private CompletableFuture<File> packFuture = CompletableFuture.completedFuture(pack);
+    private volatile String packSha1 = null;
 
     /**
      * Tracks whether text shaders were generated (for combining with scoreboard shaders).
@@ -67,6 +71,18 @@ public class ResourcePack {
     private TextEffectSnippets textEffectSnippets = null;
     private TextShaderTarget textEffectSnippetsTarget = null;
 
+    private final PackBuildCache buildCache = new PackBuildCache(OraxenPlugin.get().getDataFolder());
+    private final List<ArmorTextureFile> shaderArmorFiles = new ArrayList<>();
+    /**
+     * Build cache keys for the current generation, null when the build cache is disabled.
+     */
+    private String settingsCacheKey = null;
+    private String itemsCacheKey = null;
+    private String fontCacheKey = null;
+
+    private record ArmorTextureFile(File file, String newFolder) {
+    }
+
     public ResourcePack() {
         // we use maps to avoid duplicate
         packModifiers = new HashMap<>();
@@ -91,8 +107,11 @@ public class ResourcePack {
             extractDefaultFolders();
         extractRequired();
 
-        if (!Settings.GENERATE.toBool())
-            return;
+        // The last generated pack may still be written, packFuture keeps pointing at it
+        if (!Settings.GENERATE.toBool()) return;
+
+        shaderArmorFiles.clear();
+        computeBuildCacheKeys();
 
         if (Settings.HIDE_SCOREBOARD_NUMBERS.toBool() && PluginUtils.isEnabled("HappyHUD")) {
             Logs.logError("HappyHUD detected with hide_scoreboard_numbers enabled!");
@@ -100,12 +119,6 @@ public class ResourcePack {
                     "Recommend following this guide for compatibility: https://docs.oraxen.com/compatibility/happyhud");
         }
 
-        try {
-            Files.deleteIfExists(pack.toPath());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
         extractInPackIfNotExists(new File(packFolder, "pack.mcmeta"));
         extractInPackIfNotExists(new File(packFolder, "pack.png"));
         updatePackMcmeta();
@@ -123,23 +136,25 @@ public class ResourcePack {
 
             // ITEM_PROPERTIES: Generate assets/oraxen/items/<item_id>.json
             if (AppearanceMode.isItemPropertiesEnabled()) {
-                generateModelDefinitions(filterForItemModel(texturedItems));
+                runCachedStage("model_definitions", itemsCacheKey,
+                        () -> generateModelDefinitions(filterForItemModel(texturedItems)));
             }
 
             // MODEL_DATA_IDS or MODEL_DATA_FLOAT: Generate assets/minecraft/items/<material>.json
             if (AppearanceMode.shouldGenerateVanillaItemDefinitions()) {
                 boolean useSelect = AppearanceMode.shouldUseSelectForVanillaItemDefs();
                 boolean includeBothModes = AppearanceMode.shouldUseBothDispatchModes();
-                generateVanillaItemDefinitions(filterForPredicates(texturedItems), useSelect, includeBothModes);
+                runCachedStage("vanilla_item_definitions", itemsCacheKey, () ->
+                        generateVanillaItemDefinitions(filterForPredicates(texturedItems), useSelect, includeBothModes));
             }
 
             // generate_predicates: Generate legacy predicate overrides (not needed on 1.21.4+)
             if (AppearanceMode.shouldGenerateLegacyPredicates()) {
-                generatePredicates(filterForPredicates(texturedItems));
+                runCachedStage("predicates", itemsCacheKey, () -> generatePredicates(filterForPredicates(texturedItems)));
             }
         } else {
             // Pre-1.21.4: Always generate legacy predicate overrides (the only option available)
-            generatePredicates(filterForPredicates(texturedItems));
+            runCachedStage("predicates", itemsCacheKey, () -> generatePredicates(filterForPredicates(texturedItems)));
         }
 
         generateFont();
@@ -193,7 +208,7 @@ public class ResourcePack {
             malformedTextures = verifyPackFormatting(output);
 
         if (Settings.GENERATE_ATLAS_FILE.toBool())
-            AtlasGenerator.generateAtlasFile(output, malformedTextures);
+            generateAtlasFile(output, malformedTextures);
 
         if (Settings.MERGE_DUPLICATE_FONTS.toBool())
             DuplicationHandler.mergeFontFiles(output);
@@ -202,7 +217,7 @@ public class ResourcePack {
         // Merge vanilla item definitions for 1.21.4+ (if predicates enabled)
         DuplicationHandler.mergeVanillaItemDefinitions(output);
 
-        List<String> excludedExtensions = Settings.EXCLUDED_FILE_EXTENSIONS.toStringList();
+        List<String> excludedExtensions = new ArrayList<>(Settings.EXCLUDED_FILE_EXTENSIONS.toStringList());
         excludedExtensions.removeIf(f -> f.equals("png") || f.equals("json"));
         if (!excludedExtensions.isEmpty() && !output.isEmpty()) {
             List<VirtualFile> newOutput = new ArrayList<>();
@@ -215,22 +230,59 @@ public class ResourcePack {
 
         generateSound(output);
 
+        if (settingsCacheKey != null)
+            buildCache.save();
+
+        final CompletableFuture<File> previous = packFuture;
+        final CompletableFuture<File> future = new CompletableFuture<>();
+        packFuture = future;
+        // The event is fired on the main thread, zipping and uploading happen in a dedicated async stage
         SchedulerUtil.runTask(() -> {
             OraxenPackGeneratedEvent event = new OraxenPackGeneratedEvent(output);
             EventUtils.callEvent(event);
-            ZipUtils.writeZipFile(pack, event.getOutput());
+            final List<VirtualFile> finalOutput = event.getOutput();
 
             UploadManager uploadManager = OraxenPlugin.get().getUploadManager();
-            if (uploadManager != null) { // If the uploadManager isnt null, this was triggered by a pack-reload
-                uploadManager.uploadAsyncAndSendToPlayers(OraxenPlugin.get().getResourcePack(), true, true);
-            } else { // Otherwise this is was triggered on server-startup
+            // If the uploadManager isnt null, this was triggered by a pack-reload
+            // Otherwise this is was triggered on server-startup
+            final boolean isReload = uploadManager != null;
+            if (!isReload) {
                 uploadManager = new UploadManager(OraxenPlugin.get());
                 OraxenPlugin.get().setUploadManager(uploadManager);
-                uploadManager.uploadAsyncAndSendToPlayers(OraxenPlugin.get().getResourcePack(), false, false);
             }
+            uploadManager.registerReceiver();
+
+            final UploadManager finalUploadManager = uploadManager;
+            // Packs are written and uploaded one at a time, a reload waits for the previous pack.zip to be done with
+            previous.whenComplete((file, error) -> SchedulerUtil.runTaskAsync(() -> {
+                try {
+                    Files.deleteIfExists(pack.toPath());
+                    packSha1 = ZipUtils.writeZipFile(pack, finalOutput);
+                    if (packSha1 == null) {
+                        // There is no pack to upload or send
+                        Logs.logError("Failed to write the resourcepack");
+                        future.completeExceptionally(new IOException("Failed to write " + pack));
+                        return;
+                    }
+                    finalUploadManager.uploadAndSendToPlayers(this, isReload, isReload);
+                    future.complete(pack);
+                } catch (Throwable throwable) {
+                    Logs.logError("Failed to write or upload the resourcepack");
+                    throwable.printStackTrace();
+                    future.completeExceptionally(throwable);
+                }
+            }));
         });
     }
 
+    /**
+     * Returns a future completed once the last generated pack has been zipped and uploaded.
+     * Callers can chain on it without blocking a tick.
+     */
+    public CompletableFuture<File> getPackFuture() {
+        return packFuture;
+    }
+
     /**
      * Ensures {@code pack/pack.mcmeta} always has the correct {@code pack_format}
      * for the running server version.
@@ -277,21 +329,97 @@ public class ResourcePack {
         }
     }
 
+    private void computeBuildCacheKeys() {
+        settingsCacheKey = null;
+        itemsCacheKey = null;
+        fontCacheKey = null;
+        if (!PackBuildCache.isEnabled())
+            return;
+
+        buildCache.load();
+        File dataFolder = OraxenPlugin.get().getDataFolder();
+        settingsCacheKey = buildCache.hashConfigs(".yml", new File(dataFolder, "settings.yml"),
+                new File(dataFolder, "mechanics.yml"));
+        itemsCacheKey = buildCache.hash(settingsCacheKey, buildCache.hashConfigs(".yml", new File(dataFolder, "items")),
+                String.join(",", new TreeSet<>(OraxenItems.getNames())));
+        fontCacheKey = buildCache.hash(settingsCacheKey, buildCache.hashConfigs(".yml", new File(dataFolder, "glyphs"),
+                new File(dataFolder, "font.yml"), new File(dataFolder, "text_effects.yml")),
+                String.valueOf(OraxenPlugin.get().getFontManager().getGlyphs().size()));
+    }
+
+    /**
+     * Runs a generation stage writing to {@link #outputFiles}, or restores its previous
+     * outputs from the build cache if the stage inputs are unchanged.
+     */
+    private void runCachedStage(String stage, @Nullable String key, Runnable generator) {
+        if (key == null) {
+            generator.run();
+            return;
+        }
+        if (buildCache.restore(stage, key, ResourcePack::addOutputFiles))
+            return;
+
+        Map<String, VirtualFile> previousOutput = new HashMap<>(outputFiles);
+        generator.run();
+        List<VirtualFile> generated = outputFiles.values().stream()
+                .filter(virtual -> previousOutput.get(virtual.getPath()) != virtual).toList();
+        buildCache.store(stage, key, generated);
+    }
+
+    private void generateAtlasFile(List<VirtualFile> output, Set<String> malformedTextures) {
+        String key = null;
+        if (settingsCacheKey != null) {
+            List<String> parts = new ArrayList<>();
+            parts.add(itemsCacheKey);
+            parts.add(String.join(",", new TreeSet<>(malformedTextures)));
+            for (VirtualFile virtual : output) {
+                String path = virtual.getPath();
+                if (path.matches("assets/.*/font/.*.json"))
+                    parts.add(path + "=" + PackBuildCache.hash(virtual));
+                else if (path.endsWith(".png"))
+                    parts.add(path);
+            }
+            key = buildCache.hash(parts.toArray(String[]::new));
+            if (buildCache.restore("atlas", key, atlas -> {
+                output.removeIf(virtual -> virtual.getPath().equals(atlas.getPath()));
+                output.add(atlas);
+            }))
+                return;
+        }
+
+        AtlasGenerator.generateAtlasFile(output, malformedTextures);
+        if (key != null)
+            buildCache.store("atlas", key, output.stream()
+                    .filter(virtual -> virtual.getPath().equals("assets/minecraft/atlases/blocks.json")).toList());
+    }
+
+    private static final Pattern MODEL_PATH = Pattern.compile("assets/.*/models/.*.json");
+    private static final Pattern TEXTURE_MCMETA_PATH = Pattern.compile("assets/.*/textures/.*.png.mcmeta");
+    private static final Pattern TEXTURE_PATH = Pattern.compile("assets/.*/textures/.*.png");
+    private static final Pattern VALID_PATH = Pattern.compile("[a-z0-9/._-]+");
+    private static final Pattern LAYER_TEXTURE_PATH = Pattern.compile(".*_layer_.*.png");
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    /**
+     * Result of verifying a single file. Log calls are deferred so files can be verified in parallel
+     * while still logging in a stable order.
+     */
+    private record VerificationResult(VirtualFile file, boolean malformed, List<Runnable> logs) {
+    }
+
     private static Set<String> verifyPackFormatting(List<VirtualFile> output) {
         if (Settings.DEBUG.toBool()) Logs.logInfo("Verifying formatting for textures and models...");
-        Set<VirtualFile> textures = new HashSet<>();
+        List<VirtualFile> textures = new ArrayList<>();
         Set<String> texturePaths = new HashSet<>();
         Set<String> mcmeta = new HashSet<>();
-        Set<VirtualFile> models = new HashSet<>();
-        Set<VirtualFile> malformedTextures = new HashSet<>();
-        Set<VirtualFile> malformedModels = new HashSet<>();
+        List<VirtualFile> models = new ArrayList<>();
         for (VirtualFile virtualFile : output) {
             String path = virtualFile.getPath();
-            if (path.matches("assets/.*/models/.*.json"))
+            if (MODEL_PATH.matcher(path).matches())
                 models.add(virtualFile);
-            else if (path.matches("assets/.*/textures/.*.png.mcmeta"))
+            else if (TEXTURE_MCMETA_PATH.matcher(path).matches())
                 mcmeta.add(path);
-            else if (path.matches("assets/.*/textures/.*.png")) {
+            else if (TEXTURE_PATH.matcher(path).matches()) {
                 textures.add(virtualFile);
                 texturePaths.add(path);
             }
@@ -300,119 +428,169 @@ public class ResourcePack {
         if (models.isEmpty() && !textures.isEmpty())
             return Collections.emptySet();
 
-        for (VirtualFile model : models) {
-            if (!model.getPath().matches("[a-z0-9/._-]+")) {
-                Logs.logWarning("Found invalid model at <blue>" + model.getPath());
-                Logs.logError("Model-paths must only contain characters [a-z0-9/._-]");
-                malformedModels.add(model);
+        List<VerificationResult> modelResults = models.parallelStream()
+                .map(model -> verifyModel(model, texturePaths)).toList();
+        List<VerificationResult> textureResults = textures.parallelStream()
+                .map(texture -> verifyTexture(texture, mcmeta)).toList();
+
+        Set<String> malformedFiles = new HashSet<>();
+        boolean malformedTextures = false;
+        boolean malformedModels = false;
+        for (VerificationResult result : modelResults) {
+            result.logs().forEach(Runnable::run);
+            if (result.malformed()) {
+                malformedModels = true;
+                malformedFiles.add(result.file().getPath());
             }
-
-            String content;
-            try {
-                InputStream inputStream = model.getInputStream();
-                if (inputStream == null) {
-                    content = "";
-                } else {
-                    byte[] data;
-                    try (inputStream) {
-                        data = inputStream.readAllBytes();
-                    }
-                    // Important: restore stream for later zip writing
-                    model.setInputStream(new ByteArrayInputStream(data));
-                    content = new String(data, StandardCharsets.UTF_8);
-                }
-            } catch (Exception e) {
-                content = "";
+        }
+        for (VerificationResult result : textureResults) {
+            result.logs().forEach(Runnable::run);
+            if (result.malformed()) {
+                malformedTextures = true;
+                malformedFiles.add(result.file().getPath());
             }
+        }
 
-            if (!content.isEmpty()) {
-                JsonObject jsonModel;
-                try {
-                    jsonModel = JsonParser.parseString(content).getAsJsonObject();
-                } catch (JsonSyntaxException e) {
-                    Logs.logError("Found malformed json at <red>" + model.getPath() + "</red>");
-                    e.printStackTrace();
-                    continue;
-                }
-                if (jsonModel.has("textures")) {
-                    for (JsonElement element : jsonModel.getAsJsonObject("textures").entrySet().stream()
-                            .map(Map.Entry::getValue).toList()) {
-                        String jsonTexture = element.getAsString();
-                        if (!texturePaths.contains(modelPathToPackPath(jsonTexture))) {
-                            if (!jsonTexture.startsWith("#") && !jsonTexture.startsWith("item/")
-                                    && !jsonTexture.startsWith("block/") && !jsonTexture.startsWith("entity/")) {
-                                if (Material.matchMaterial(Utils.getFileNameOnly(jsonTexture).toUpperCase()) == null) {
-                                    Logs.logWarning("Found invalid texture-path inside model-file <blue>"
-                                            + model.getPath() + "</blue>: " + jsonTexture);
-                                    Logs.logWarning("Verify that you have a texture in said path.", true);
-                                    malformedModels.add(model);
-                                }
-                            }
+        if (malformedTextures || malformedModels) {
+            Logs.logError("Pack contains malformed texture(s) and/or model(s)");
+            Logs.logError("These need to be fixed, otherwise the resourcepack will be broken");
+        } else
+            Logs.logSuccess("No broken models or textures were found in the resourcepack");
+
+        return malformedFiles;
+    }
+
+    private static VerificationResult verifyModel(VirtualFile model, Set<String> texturePaths) {
+        List<Runnable> logs = new ArrayList<>();
+        boolean malformed = false;
+        if (!VALID_PATH.matcher(model.getPath()).matches()) {
+            logs.add(() -> Logs.logWarning("Found invalid model at <blue>" + model.getPath()));
+            logs.add(() -> Logs.logError("Model-paths must only contain characters [a-z0-9/._-]"));
+            malformed = true;
+        }
+
+        // The content is kept in memory for later zip writing
+        byte[] data = model.getBytes();
+        if (data == null || data.length == 0)
+            return new VerificationResult(model, malformed, logs);
+
+        JsonObject jsonModel;
+        try {
+            jsonModel = JsonParser.parseString(new String(data, StandardCharsets.UTF_8)).getAsJsonObject();
+        } catch (JsonSyntaxException e) {
+            logs.add(() -> {
+                Logs.logError("Found malformed json at <red>" + model.getPath() + "</red>");
+                e.printStackTrace();
+            });
+            return new VerificationResult(model, malformed, logs);
+        }
+
+        if (jsonModel.has("textures")) {
+            for (JsonElement element : jsonModel.getAsJsonObject("textures").entrySet().stream()
+                    .map(Map.Entry::getValue).toList()) {
+                String jsonTexture = element.getAsString();
+                if (!texturePaths.contains(modelPathToPackPath(jsonTexture))) {
+                    if (!jsonTexture.startsWith("#") && !jsonTexture.startsWith("item/")
+                            && !jsonTexture.startsWith("block/") && !jsonTexture.startsWith("entity/")) {
+                        if (Material.matchMaterial(Utils.getFileNameOnly(jsonTexture).toUpperCase()) == null) {
+                            logs.add(() -> {
+                                Logs.logWarning("Found invalid texture-path inside model-file <blue>"
+                                        + model.getPath() + "</blue>: " + jsonTexture);
+                                Logs.logWarning("Verify that you have a texture in said path.", true);
+                            });
+                            malformed = true;
                         }
                     }
                 }
             }
         }
+        return new VerificationResult(model, malformed, logs);
+    }
+
+    private static VerificationResult verifyTexture(VirtualFile texture, Set<String> mcmeta) {
+        List<Runnable> logs = new ArrayList<>();
+        boolean malformed = false;
+        if (!VALID_PATH.matcher(texture.getPath()).matches()) {
+            logs.add(() -> Logs.logWarning("Found invalid texture at <blue>" + texture.getPath()));
+            logs.add(() -> Logs.logError("Texture-paths must only contain characters [a-z0-9/._-]"));
+            malformed = true;
+        }
+        if (LAYER_TEXTURE_PATH.matcher(texture.getPath()).matches() || mcmeta.contains(texture.getPath() + ".mcmeta"))
+            return new VerificationResult(texture, malformed, logs);
 
-        for (VirtualFile texture : textures) {
-            if (!texture.getPath().matches("[a-z0-9/._-]+")) {
-                Logs.logWarning("Found invalid texture at <blue>" + texture.getPath());
-                Logs.logError("Texture-paths must only contain characters [a-z0-9/._-]");
-                malformedTextures.add(texture);
+        try {
+            int[] size = readTextureSize(texture);
+            if (size == null) {
+                logs.add(() -> {
+                    Logs.logWarning("Found unreadable texture at <blue>" + texture.getPath() + "</blue>");
+                    Logs.logWarning("Image format may be corrupt or unsupported by ImageIO.", true);
+                });
+                malformed = true;
+            } else if (size[0] > 256 || size[1] > 256) {
+                logs.add(() -> {
+                    Logs.logWarning("Found invalid texture at <blue>" + texture.getPath());
+                    Logs.logError("Resolution of textures cannot exceed 256x256");
+                });
+                malformed = true;
             }
-            if (!texture.getPath().matches(".*_layer_.*.png")) {
-                if (mcmeta.contains(texture.getPath() + ".mcmeta"))
-                    continue;
-                try {
-                    InputStream inputStream = texture.getInputStream();
-                    if (inputStream == null) {
-                        Logs.logWarning("Found unreadable texture at <blue>" + texture.getPath() + "</blue>");
-                        malformedTextures.add(texture);
-                        continue;
-                    }
+        } catch (Exception e) {
+            // Be resilient when validating packs: bad files should not crash pack
+            // generation
+            logs.add(() -> {
+                Logs.logWarning("Failed to validate texture <blue>" + texture.getPath() + "</blue>");
+                if (Settings.DEBUG.toBool())
+                    e.printStackTrace();
+            });
+            malformed = true;
+        }
+        return new VerificationResult(texture, malformed, logs);
+    }
 
-                    byte[] data;
-                    try (inputStream) {
-                        data = inputStream.readAllBytes();
-                    }
-                    // Important: restore stream for later zip writing
-                    texture.setInputStream(new ByteArrayInputStream(data));
-
-                    // ImageIO.read returns null if there is no suitable reader
-                    // (corrupt/unsupported)
-                    BufferedImage image = ImageIO.read(new ByteArrayInputStream(data));
-                    if (image == null) {
-                        Logs.logWarning("Found unreadable texture at <blue>" + texture.getPath() + "</blue>");
-                        Logs.logWarning("Image format may be corrupt or unsupported by ImageIO.", true);
-                        malformedTextures.add(texture);
-                        continue;
-                    }
+    /**
+     * Reads the width and height of a texture without decoding it.
+     * PNGs are read from the IHDR chunk in the first 24 bytes, other formats through the ImageIO reader metadata.
+     *
+     * @return the width and height, or null if the texture is unreadable
+     */
+    @Nullable
+    private static int[] readTextureSize(VirtualFile texture) throws IOException {
+        InputStream inputStream = texture.getInputStream();
+        if (inputStream == null)
+            return null;
 
-                    if (image.getHeight() > 256 || image.getWidth() > 256) {
-                        Logs.logWarning("Found invalid texture at <blue>" + texture.getPath());
-                        Logs.logError("Resolution of textures cannot exceed 256x256");
-                        malformedTextures.add(texture);
-                    }
-                } catch (Exception e) {
-                    // Be resilient when validating packs: bad files should not crash pack
-                    // generation
-                    Logs.logWarning("Failed to validate texture <blue>" + texture.getPath() + "</blue>");
-                    if (Settings.DEBUG.toBool())
-                        e.printStackTrace();
-                    malformedTextures.add(texture);
-                }
+        byte[] header;
+        if (texture.isReusable()) {
+            try (inputStream) {
+                header = inputStream.readNBytes(24);
             }
+        } else {
+            header = inputStream.readNBytes(24);
+            // Important: restore stream for later zip writing, without reading the rest of the file
+            texture.setInputStream(new SequenceInputStream(new ByteArrayInputStream(header), inputStream));
+        }
+        if (header.length == 24 && Arrays.equals(header, 0, 8, PNG_SIGNATURE, 0, 8)
+                && header[12] == 'I' && header[13] == 'H' && header[14] == 'D' && header[15] == 'R') {
+            int width = ((header[16] & 0xFF) << 24) | ((header[17] & 0xFF) << 16) | ((header[18] & 0xFF) << 8) | (header[19] & 0xFF);
+            int height = ((header[20] & 0xFF) << 24) | ((header[21] & 0xFF) << 16) | ((header[22] & 0xFF) << 8) | (header[23] & 0xFF);
+            return new int[]{width, height};
         }
 
-        if (!malformedTextures.isEmpty() || !malformedModels.isEmpty()) {
-            Logs.logError("Pack contains malformed texture(s) and/or model(s)");
-            Logs.logError("These need to be fixed, otherwise the resourcepack will be broken");
-        } else
-            Logs.logSuccess("No broken models or textures were found in the resourcepack");
-
-        Set<String> malformedFiles = malformedTextures.stream().map(VirtualFile::getPath).collect(Collectors.toSet());
-        malformedFiles.addAll(malformedModels.stream().map(VirtualFile::getPath).collect(Collectors.toSet()));
-        return malformedFiles;
+        // Not a regular PNG, let ImageIO detect the format and only read its header
+        byte[] data = texture.getBytes();
+        if (data == null)
+            return null;
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = imageInput == null ? Collections.emptyIterator() : ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext())
+                return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                return new int[]{reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        }
     }
 
     private static String modelPathToPackPath(String modelPath) {
@@ -530,6 +708,14 @@ public class ResourcePack {
         return pack;
     }
 
+    /**
+     * @return the hex encoded SHA1 of the last written zip, or null if it was not written by this instance
+     */
+    @Nullable
+    public String getSHA1() {
+        return packSha1;
+    }
+
     public File getPackFolder() {
         return packFolder;
     }
@@ -672,6 +858,19 @@ public class ResourcePack {
         if (!fontManager.autoGenerate)
             return;
 
+        runCachedStage("font", fontCacheKey, () -> generateStaticFonts(fontManager));
+
+        // Process animated glyph fonts, never cached as it also sets up the runtime state of the glyphs
+        boolean hasAnimatedGlyphs = processAnimatedGlyphs(fontManager);
+
+        // Generate text shaders when needed (animated glyphs and/or text effects).
+        maybeGenerateTextShaders(hasAnimatedGlyphs);
+    }
+
+    /**
+     * Generates the default, shift and effect fonts, which only depend on the glyph and font configs.
+     */
+    private void generateStaticFonts(FontManager fontManager) {
         // Generate the main default font with glyphs
         final JsonObject output = new JsonObject();
         final JsonArray providers = new JsonArray();
@@ -702,12 +901,6 @@ public class ResourcePack {
 
         // Generate effect fonts for text effects
         generateEffectFonts();
-
-        // Process animated glyph fonts
-        boolean hasAnimatedGlyphs = processAnimatedGlyphs(fontManager);
-
-        // Generate text shaders when needed (animated glyphs and/or text effects).
-        maybeGenerateTextShaders(hasAnimatedGlyphs);
     }
 
     /**
@@ -2144,16 +2337,10 @@ public class ResourcePack {
         // If file was imported by other means, we attempt to merge in sound.yml entries
         for (VirtualFile soundFile : soundFiles) {
             if (soundFile != null) {
-                try {
-                    JsonElement soundElement = JsonParser
-                            .parseString(IOUtils.toString(soundFile.getInputStream(), StandardCharsets.UTF_8));
-                    if (soundElement != null && soundElement.isJsonObject()) {
-                        for (Map.Entry<String, JsonElement> entry : soundElement.getAsJsonObject().entrySet())
-                            outputJson.add(entry.getKey(), entry.getValue());
-                    }
-                } catch (IOException e) {
-                    e.printStackTrace();
-                    continue;
+                JsonElement soundElement = soundFile.toJsonElement();
+                if (soundElement != null && soundElement.isJsonObject()) {
+                    for (Map.Entry<String, JsonElement> entry : soundElement.getAsJsonObject().entrySet())
+                        outputJson.add(entry.getKey(), entry.getValue());
                 }
             }
             output.remove(soundFile);
@@ -2166,13 +2353,7 @@ public class ResourcePack {
             outputJson.add(sound.getName(), sound.toJson());
         }
 
-        InputStream soundInput = new ByteArrayInputStream(outputJson.toString().getBytes(StandardCharsets.UTF_8));
-        output.add(new VirtualFile("assets/minecraft", "sounds.json", soundInput));
-        try {
-            soundInput.close();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        output.add(new VirtualFile("assets/minecraft", "sounds.json", outputJson.toString().getBytes(StandardCharsets.UTF_8)));
 
         // Initialize JukeboxDatapack with jukebox sounds after processing all sounds
         Collection<CustomSound> jukeboxSounds = customSounds.stream()
@@ -2253,14 +2434,14 @@ public class ResourcePack {
     public static void writeStringToVirtual(String folder, String name, String content) {
         folder = !folder.endsWith("/") ? folder : folder.substring(0, folder.length() - 1);
         addOutputFiles(
-                new VirtualFile(folder, name, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))));
+                new VirtualFile(folder, name, content.getBytes(StandardCharsets.UTF_8)));
     }
 
     private static void writeImageToVirtual(String folder, String name, BufferedImage image) {
         folder = !folder.endsWith("/") ? folder : folder.substring(0, folder.length() - 1);
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
             ImageIO.write(image, "png", outputStream);
-            addOutputFiles(new VirtualFile(folder, name, new ByteArrayInputStream(outputStream.toByteArray())));
+            addOutputFiles(new VirtualFile(folder, name, outputStream.toByteArray()));
         } catch (IOException e) {
             Logs.logError("Failed to write generated texture: " + folder + "/" + name);
             if (Settings.DEBUG.toBool())
@@ -2289,17 +2470,22 @@ public class ResourcePack {
     }
 
     private void readFileToVirtuals(final Collection<VirtualFile> output, File file, String newFolder) {
+        // Shader armor textures are deferred to handleCustomArmor so the stage can be restored from the build cache
+        if (CustomArmorType.getSetting() == CustomArmorType.SHADER && ShaderArmorTextures.isArmorTexture(file)) {
+            shaderArmorFiles.add(new ArmorTextureFile(file, newFolder));
+            return;
+        }
+        addFileToVirtuals(output, file, newFolder);
+    }
+
+    private void addFileToVirtuals(final Collection<VirtualFile> output, File file, String newFolder) {
         try {
-            final InputStream fis;
+            String parentFolder = getZipFilePath(file.getParentFile().getCanonicalPath(), newFolder);
+            // Other files are only opened once they are zipped, keeping a descriptor per pack file open would exhaust the limit
             if (file.getName().endsWith(".json"))
-                fis = processJsonFile(file);
-            else if (CustomArmorType.getSetting() == CustomArmorType.SHADER && shaderArmorTextures.registerImage(file))
-                return;
+                output.add(new VirtualFile(parentFolder, file.getName(), processJsonFile(file).readAllBytes()));
             else
-                fis = new FileInputStream(file);
-
-            output.add(new VirtualFile(getZipFilePath(file.getParentFile().getCanonicalPath(), newFolder),
-                    file.getName(), fis));
+                output.add(new VirtualFile(parentFolder, file.getName(), file.toPath()));
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -2357,28 +2543,50 @@ public class ResourcePack {
                 trimArmorDatapack.clearOldDataPack();
                 trimArmorDatapack.generateAssets(output);
             }
-            case SHADER -> {
-                if (Settings.CUSTOM_ARMOR_SHADER_GENERATE_CUSTOM_TEXTURES.toBool()
-                        && shaderArmorTextures.hasCustomArmors()) {
-                    try {
-                        String armorPath = "assets/minecraft/textures/models/armor";
-                        output.add(
-                                new VirtualFile(armorPath, "leather_layer_1.png", shaderArmorTextures.getLayerOne()));
-                        output.add(
-                                new VirtualFile(armorPath, "leather_layer_2.png", shaderArmorTextures.getLayerTwo()));
-                        if (Settings.CUSTOM_ARMOR_SHADER_GENERATE_SHADER_COMPATIBLE_ARMOR.toBool()) {
-                            output.addAll(shaderArmorTextures.getOptifineFiles());
-                        }
-                    } catch (IOException e) {
-                        e.printStackTrace();
-                    }
-                }
-            }
+            case SHADER -> handleShaderArmorTextures(output);
             default -> {
             } // Handle NONE
         }
     }
 
+    private void handleShaderArmorTextures(List<VirtualFile> output) {
+        String key = null;
+        if (settingsCacheKey != null) {
+            List<String> parts = new ArrayList<>();
+            parts.add(itemsCacheKey);
+            for (ArmorTextureFile armorFile : shaderArmorFiles)
+                parts.add(armorFile.newFolder() + ":" + armorFile.file().getName() + "=" + buildCache.hashFile(armorFile.file()));
+            key = buildCache.hash(parts.toArray(String[]::new));
+            if (buildCache.restore("shader_armor", key, output::add))
+                return;
+        }
+
+        List<VirtualFile> generated = new ArrayList<>();
+        for (ArmorTextureFile armorFile : shaderArmorFiles)
+            if (!shaderArmorTextures.registerImage(armorFile.file()))
+                addFileToVirtuals(generated, armorFile.file(), armorFile.newFolder());
+
+        if (Settings.CUSTOM_ARMOR_SHADER_GENERATE_CUSTOM_TEXTURES.toBool()
+                && shaderArmorTextures.hasCustomArmors()) {
+            try {
+                String armorPath = "assets/minecraft/textures/models/armor";
+                generated.add(
+                        new VirtualFile(armorPath, "leather_layer_1.png", shaderArmorTextures.getLayerOne()));
+                generated.add(
+                        new VirtualFile(armorPath, "leather_layer_2.png", shaderArmorTextures.getLayerTwo()));
+                if (Settings.CUSTOM_ARMOR_SHADER_GENERATE_SHADER_COMPATIBLE_ARMOR.toBool()) {
+                    generated.addAll(shaderArmorTextures.getOptifineFiles());
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        output.addAll(generated);
+        if (key != null)
+            buildCache.store("shader_armor", key, generated);
+    }
+
     private void mergeUploadedPacks(List<VirtualFile> output) {
         PackMerger packMerger = new PackMerger(packFolder);
         List<VirtualFile> mergedFiles = packMerger.mergeUploadedPacks();
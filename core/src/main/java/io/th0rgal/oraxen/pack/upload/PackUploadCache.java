@@ -0,0 +1,106 @@
+package io.th0rgal.oraxen.pack.upload;
+
+import io.th0rgal.oraxen.pack.upload.hosts.HostingProvider;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Remembers the last uploaded pack, so a byte-identical pack does not have to be uploaded again.
+ * <p>
+ * The SHA1 of the zip, the provider it was uploaded to and the resulting URL and SHA1
+ * are kept in {@code plugins/Oraxen/cache/upload.properties}.
+ */
+public class PackUploadCache {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final File file;
+
+    public PackUploadCache(File dataFolder) {
+        this.file = new File(dataFolder, "cache/upload.properties");
+    }
+
+    /**
+     * @return the last upload of the given pack to the given provider, or null if it was not the last one uploaded
+     */
+    @Nullable
+    public Upload get(String provider, String packSha1) {
+        if (!file.isFile()) return null;
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+
+        String url = properties.getProperty("url");
+        String hostSha1 = properties.getProperty("host-sha1");
+        if (url == null || hostSha1 == null
+                || !provider.equals(properties.getProperty("provider"))
+                || !packSha1.equals(properties.getProperty("pack-sha1")))
+            return null;
+        return new Upload(hostSha1, url);
+    }
+
+    /**
+     * Makes the provider reuse its last upload, if it was of the exact same pack and is still available.
+     *
+     * @param packSha1 the hex encoded SHA1 of the pack, or null if unknown
+     * @return true if the pack does not have to be uploaded again
+     */
+    public boolean restore(HostingProvider hostingProvider, String provider, @Nullable String packSha1) {
+        if (packSha1 == null) return false;
+        Upload previous = get(provider, packSha1);
+        return previous != null && hostingProvider.restoreUpload(previous.hostSha1(), previous.url());
+    }
+
+    public void store(String provider, String packSha1, String hostSha1, String url) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("provider", provider);
+        properties.setProperty("pack-sha1", packSha1);
+        properties.setProperty("host-sha1", hostSha1);
+        properties.setProperty("url", url);
+        Files.createDirectories(file.getParentFile().toPath());
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            properties.store(writer, "Last uploaded resource pack");
+        }
+    }
+
+    public void invalidate() {
+        file.delete();
+    }
+
+    /**
+     * Checks with a HEAD request that a previously uploaded pack can still be downloaded.
+     */
+    public static boolean isStillServed(String url) {
+        try {
+            HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT)
+                    .followRedirects(HttpClient.Redirect.NORMAL).build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT)
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public record Upload(String hostSha1, String url) {
+    }
+}
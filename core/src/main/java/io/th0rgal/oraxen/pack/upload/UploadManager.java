@@ -6,6 +6,7 @@ import io.th0rgal.oraxen.api.events.OraxenPackUploadEvent;
 import io.th0rgal.oraxen.config.Message;
 import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.pack.dispatch.BukkitPackSender;
+import io.th0rgal.oraxen.pack.dispatch.PackDispatchQueue;
 import io.th0rgal.oraxen.pack.dispatch.PackSender;
 import io.th0rgal.oraxen.pack.generation.ResourcePack;
 import io.th0rgal.oraxen.pack.receive.PackReceiver;
@@ -17,10 +18,10 @@ import io.th0rgal.oraxen.utils.SchedulerUtil;
 import io.th0rgal.oraxen.utils.logs.Logs;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
@@ -36,6 +37,8 @@ public class UploadManager {
     private final Plugin plugin;
     private final boolean enabled;
     private final HostingProvider hostingProvider;
+    private final PackUploadCache uploadCache;
+    private final PackDispatchQueue dispatchQueue;
     private PackSender packSender;
     private PackReceiver receiver;
 
@@ -43,6 +46,8 @@ public class UploadManager {
         this.plugin = plugin;
         enabled = Settings.UPLOAD.toBool();
         hostingProvider = createHostingProvider();
+        uploadCache = new PackUploadCache(plugin.getDataFolder());
+        dispatchQueue = new PackDispatchQueue(this::getSender);
     }
 
     public HostingProvider getHostingProvider() {
@@ -53,63 +58,117 @@ public class UploadManager {
         return packSender;
     }
 
+    public PackDispatchQueue getDispatchQueue() {
+        return dispatchQueue;
+    }
+
     public void uploadAsyncAndSendToPlayers(final ResourcePack resourcePack, final boolean updatePackSender, final boolean isReload) {
         if (!enabled)
             return;
 
-        if (Settings.RECEIVE_ENABLED.toBool() && receiver == null) {
+        registerReceiver();
+        SchedulerUtil.runTaskAsync(() -> uploadAndSendToPlayers(resourcePack, updatePackSender, isReload));
+    }
+
+    /**
+     * Registers the {@link PackReceiver} if needed. Must be called from the main thread.
+     */
+    public void registerReceiver() {
+        if (enabled && Settings.RECEIVE_ENABLED.toBool() && receiver == null) {
             receiver = new PackReceiver();
             Bukkit.getPluginManager().registerEvents(receiver, plugin);
         }
+    }
+
+    /**
+     * Uploads the pack and sends it to online players on the calling thread.
+     * Meant to be called off the main thread, after {@link #registerReceiver()}.
+     *
+     * @return true if the pack was uploaded
+     */
+    public boolean uploadAndSendToPlayers(final ResourcePack resourcePack, final boolean updatePackSender, final boolean isReload) {
+        if (!enabled)
+            return false;
 
         final long time = System.currentTimeMillis();
-        SchedulerUtil.runTaskAsync(() -> {
-            EventUtils.callEvent(new OraxenPackPreUploadEvent());
+        EventUtils.callEvent(new OraxenPackPreUploadEvent());
 
-            Message.PACK_UPLOADING.log();
-            if (!hostingProvider.uploadPack(resourcePack.getFile())) {
-                Message.PACK_NOT_UPLOADED.log();
-                return;
-            }
+        Message.PACK_UPLOADING.log();
+        if (!upload(resourcePack)) {
+            Message.PACK_NOT_UPLOADED.log();
+            return false;
+        }
 
-            OraxenPackUploadEvent uploadEvent = new OraxenPackUploadEvent(hostingProvider);
-            SchedulerUtil.runTask(() ->
-                    Bukkit.getPluginManager().callEvent(uploadEvent));
-
-            Message.PACK_UPLOADED.log(
-                    AdventureUtils.tagResolver("url", hostingProvider.getPackURL()),
-                    AdventureUtils.tagResolver("delay", String.valueOf(System.currentTimeMillis() - time)));
-
-            // Update tracking variables after successful upload, regardless of send settings
-            // This ensures tracking stays current even if settings are disabled
-            // Synchronize to prevent race conditions when multiple uploads occur concurrently
-            String currentSHA1 = hostingProvider.getOriginalSHA1();
-            String currentURL = hostingProvider.getPackURL();
-            boolean urlChanged;
-            boolean sha1Changed;
-            synchronized (trackingLock) {
-                urlChanged = !Objects.equals(currentURL, url);
-                sha1Changed = !Objects.equals(currentSHA1, previousSHA1);
-                url = currentURL;
-                previousSHA1 = currentSHA1;
-            }
+        OraxenPackUploadEvent uploadEvent = new OraxenPackUploadEvent(hostingProvider);
+        SchedulerUtil.runTask(() ->
+                Bukkit.getPluginManager().callEvent(uploadEvent));
+
+        Message.PACK_UPLOADED.log(
+                AdventureUtils.tagResolver("url", hostingProvider.getPackURL()),
+                AdventureUtils.tagResolver("delay", String.valueOf(System.currentTimeMillis() - time)));
+
+        // Update tracking variables after successful upload, regardless of send settings
+        // This ensures tracking stays current even if settings are disabled
+        // Synchronize to prevent race conditions when multiple uploads occur concurrently
+        String currentSHA1 = hostingProvider.getOriginalSHA1();
+        String currentURL = hostingProvider.getPackURL();
+        boolean urlChanged;
+        boolean sha1Changed;
+        synchronized (trackingLock) {
+            urlChanged = !Objects.equals(currentURL, url);
+            sha1Changed = !Objects.equals(currentSHA1, previousSHA1);
+            url = currentURL;
+            previousSHA1 = currentSHA1;
+        }
 
-            if (packSender == null) packSender = new BukkitPackSender(hostingProvider);
-            else if (updatePackSender) {
-                packSender.unregister();
-                packSender = new BukkitPackSender(hostingProvider);
-            }
+        if (packSender == null) packSender = new BukkitPackSender(hostingProvider, dispatchQueue);
+        else if (updatePackSender) {
+            packSender.unregister();
+            packSender = new BukkitPackSender(hostingProvider, dispatchQueue);
+        }
+
+        if (isReload && !Settings.SEND_ON_RELOAD.toBool() && packSender != null) {
+            packSender.unregister();
+            dispatchQueue.clear();
+        }
+        else if (Settings.SEND_PACK.toBool() || Settings.SEND_JOIN_MESSAGE.toBool()) {
+            packSender.register();
+            // Send pack if URL changed OR SHA1 changed (for self-hosted packs, URL doesn't change but SHA1 does)
+            if (urlChanged || sha1Changed)
+                dispatchQueue.enqueue(Bukkit.getOnlinePlayers(), false);
+        } else if (packSender != null) {
+            packSender.unregister();
+            dispatchQueue.clear();
+        }
+        return true;
+    }
 
-            if (isReload && !Settings.SEND_ON_RELOAD.toBool() && packSender != null) packSender.unregister();
-            else if (Settings.SEND_PACK.toBool() || Settings.SEND_JOIN_MESSAGE.toBool()) {
-                packSender.register();
-                // Send pack if URL changed OR SHA1 changed (for self-hosted packs, URL doesn't change but SHA1 does)
-                if (urlChanged || sha1Changed) {
-                    for (Player player : Bukkit.getOnlinePlayers())
-                        packSender.sendPack(player);
-                }
-            } else if (packSender != null) packSender.unregister();
-        });
+    /**
+     * Uploads the pack, unless the exact same pack was last uploaded to the same provider
+     * and that upload is still available.
+     */
+    private boolean upload(ResourcePack resourcePack) {
+        String packSha1 = resourcePack.getSHA1();
+        String provider = hostingProvider.getClass().getName() + "|" + Settings.POLYMATH_SERVER;
+        if (uploadCache.restore(hostingProvider, provider, packSha1)) {
+            if (Settings.DEBUG.toBool())
+                Logs.logInfo("Resource pack is unchanged, reusing the previous upload");
+            return true;
+        }
+
+        if (!hostingProvider.uploadPack(resourcePack.getFile(), packSha1))
+            return false;
+
+        String hostSha1 = hostingProvider.getOriginalSHA1();
+        String packUrl = hostingProvider.getPackURL();
+        if (packSha1 == null || hostSha1 == null || packUrl == null) uploadCache.invalidate();
+        else try {
+            uploadCache.store(provider, packSha1, hostSha1, packUrl);
+        } catch (IOException e) {
+            Logs.logWarning("Failed to remember the uploaded resource pack");
+            if (Settings.DEBUG.toBool()) e.printStackTrace();
+        }
+        return true;
     }
 
     private HostingProvider createHostingProvider() {
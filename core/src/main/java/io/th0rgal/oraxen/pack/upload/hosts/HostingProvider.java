@@ -1,5 +1,7 @@
 package io.th0rgal.oraxen.pack.upload.hosts;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.io.File;
 import java.util.UUID;
 
@@ -7,6 +9,26 @@ public interface HostingProvider {
 
     boolean uploadPack(File resourcePack);
 
+    /**
+     * Uploads a pack whose SHA1 was already computed while it was written.
+     *
+     * @param sha1 the hex encoded SHA1 of the pack, or null if unknown
+     */
+    default boolean uploadPack(File resourcePack, @Nullable String sha1) {
+        return uploadPack(resourcePack);
+    }
+
+    /**
+     * Reuses a previous upload of the exact same pack instead of uploading it again.
+     *
+     * @param sha1 the SHA1 this provider reported for the previous upload
+     * @param url  the URL this provider reported for the previous upload
+     * @return true if the previous upload is still available and now backs this provider
+     */
+    default boolean restoreUpload(String sha1, String url) {
+        return false;
+    }
+
     String getPackURL();
 
     byte[] getSHA1();
@@ -4,6 +4,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 import io.th0rgal.oraxen.config.Settings;
+import io.th0rgal.oraxen.pack.upload.PackUploadCache;
 import io.th0rgal.oraxen.utils.logs.Logs;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -20,12 +21,18 @@ import java.util.UUID;
 public class Polymath implements HostingProvider {
 
     private final String serverAddress;
+    private final String secret;
     private String packUrl;
     private String sha1;
     private UUID packUUID;
 
     public Polymath(String serverAddress) {
+        this(serverAddress, Settings.POLYMATH_SECRET.toString());
+    }
+
+    public Polymath(String serverAddress, String secret) {
         this.serverAddress = (serverAddress.startsWith("http://") || serverAddress.startsWith("https://") ? "" : "https://") + serverAddress + (serverAddress.endsWith("/") ? "" : "/");
+        this.secret = secret;
     }
 
     @Override
@@ -34,7 +41,7 @@ public class Polymath implements HostingProvider {
             HttpPost request = new HttpPost(serverAddress + "upload");
 
             HttpEntity httpEntity = MultipartEntityBuilder
-                    .create().addTextBody("id", Settings.POLYMATH_SECRET.toString())
+                    .create().addTextBody("id", secret)
                     .addBinaryBody("pack", resourcePack)
                     .build();
 
@@ -70,6 +77,17 @@ public class Polymath implements HostingProvider {
         }
     }
 
+    @Override
+    public boolean restoreUpload(String sha1, String url) {
+        // Polymath instances may have dropped the pack since, so make sure it is still served
+        if (!url.startsWith(serverAddress) || !PackUploadCache.isStillServed(url))
+            return false;
+        packUrl = url;
+        this.sha1 = sha1;
+        packUUID = UUID.nameUUIDFromBytes(sha1.getBytes());
+        return true;
+    }
+
     @Override
     public String getPackURL() {
         return packUrl;
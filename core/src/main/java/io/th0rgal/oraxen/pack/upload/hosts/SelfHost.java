@@ -1,51 +1,88 @@
 package io.th0rgal.oraxen.pack.upload.hosts;
 
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
+import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.utils.logs.Logs;
+import org.apache.commons.io.FileUtils;
 import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Serves the pack from a built-in HTTP server.
+ * <p>
+ * The pack is snapshotted and memory-mapped once per upload, so every request reads the
+ * same pages instead of loading its own copy. Responses carry a strong ETag derived from
+ * the pack SHA1 and honour If-None-Match and single byte ranges, letting clients skip
+ * or resume downloads.
+ */
 public class SelfHost implements HostingProvider {
 
+    private static final int CHUNK_SIZE = 1 << 16;
+
     private final String host;
     private final int port;
     private final String domain;
+    private final int threads;
     private HttpServer httpServer;
     private ExecutorService executor;
     private String packUrl;
     private String sha1;
     private UUID packUUID;
     private File packFile;
+    private volatile ServedPack servedPack;
 
     public SelfHost(ConfigurationSection config) {
         if (config == null) {
             this.host = "0.0.0.0";
             this.port = 8080;
             this.domain = "localhost:8080";
+            this.threads = 0;
         } else {
             this.host = config.getString("host", "0.0.0.0");
             this.port = config.getInt("port", 8080);
             this.domain = config.getString("domain", "localhost:" + this.port);
+            this.threads = config.getInt("threads", 0);
         }
     }
 
     @Override
     public boolean uploadPack(File resourcePack) {
+        return uploadPack(resourcePack, null);
+    }
+
+    @Override
+    public boolean uploadPack(File resourcePack, @Nullable String knownSha1) {
+        // The running server already serves a snapshot of this exact pack
+        if (knownSha1 != null && knownSha1.equals(sha1) && httpServer != null && servedPack != null) {
+            this.packFile = resourcePack;
+            return true;
+        }
         try {
             this.packFile = resourcePack;
             stopServer();
-            calculateSHA1(resourcePack);
+            if (knownSha1 != null) setSHA1(knownSha1);
+            else calculateSHA1(resourcePack);
             this.packUrl = "http://" + domain + "/pack.zip";
-            startServer(resourcePack);
+            servedPack = mapPack(resourcePack);
+            startServer();
             return true;
         } catch (Exception e) {
             Logs.logError("Failed to self-host the resource pack");
@@ -68,32 +105,42 @@ public class SelfHost implements HostingProvider {
         for (byte b : hashBytes) {
             sb.append(String.format("%02x", b));
         }
-        this.sha1 = sb.toString();
+        setSHA1(sb.toString());
+    }
+
+    private void setSHA1(String sha1) {
+        this.sha1 = sha1;
         this.packUUID = UUID.nameUUIDFromBytes(sha1.getBytes());
     }
 
-    private void startServer(File packFile) throws IOException {
+    /**
+     * Maps a private copy of the pack, as the pack file itself is rewritten in place on
+     * regeneration, which would fault readers of a mapping still in use.
+     */
+    private ServedPack mapPack(File resourcePack) throws IOException {
+        File snapshotFolder = new File(OraxenPlugin.get().getDataFolder(), "cache/selfhost");
+        // Mappings are only released once collected, so stale snapshots may still be locked on Windows
+        File[] stale = snapshotFolder.listFiles();
+        if (stale != null) for (File file : stale) FileUtils.deleteQuietly(file);
+        Files.createDirectories(snapshotFolder.toPath());
+
+        File snapshot = new File(snapshotFolder, "pack-" + sha1 + ".zip");
+        Files.copy(resourcePack.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        try (FileChannel channel = FileChannel.open(snapshot.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IOException("Resource pack is too large to be self-hosted");
+            return new ServedPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), "\"" + sha1 + "\"");
+        }
+    }
+
+    private void startServer() throws IOException {
         httpServer = HttpServer.create(new InetSocketAddress(host, port), 0);
-        executor = Executors.newFixedThreadPool(4);
+        executor = createExecutor();
         boolean started = false;
         try {
             httpServer.setExecutor(executor);
 
-            HttpHandler packHandler = exchange -> {
-                try {
-                    byte[] fileBytes = Files.readAllBytes(packFile.toPath());
-                    exchange.getResponseHeaders().set("Content-Type", "application/zip");
-                    exchange.getResponseHeaders().set("Content-Length", String.valueOf(fileBytes.length));
-                    exchange.sendResponseHeaders(200, fileBytes.length);
-                    exchange.getResponseBody().write(fileBytes);
-                    exchange.getResponseBody().close();
-                } catch (IOException e) {
-                    exchange.sendResponseHeaders(500, -1);
-                    exchange.close();
-                }
-            };
-
-            httpServer.createContext("/pack.zip", packHandler);
+            httpServer.createContext("/pack.zip", this::handlePackRequest);
 
             HttpHandler rootHandler = exchange -> {
                 String response = "Oraxen Resource Pack Server\n";
@@ -115,6 +162,131 @@ public class SelfHost implements HostingProvider {
         }
     }
 
+    /**
+     * Slow clients only park a virtual thread by default, a positive thread count
+     * caps the server to a fixed pool instead.
+     */
+    private ExecutorService createExecutor() {
+        if (threads <= 0) return Executors.newVirtualThreadPerTaskExecutor();
+        AtomicInteger threadId = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Oraxen-SelfHost-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void handlePackRequest(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            ServedPack pack = servedPack;
+            String method = exchange.getRequestMethod();
+            boolean head = "HEAD".equalsIgnoreCase(method);
+            if (pack == null || (!head && !"GET".equalsIgnoreCase(method))) {
+                exchange.sendResponseHeaders(pack == null ? 503 : 405, -1);
+                return;
+            }
+
+            Headers requestHeaders = exchange.getRequestHeaders();
+            Headers responseHeaders = exchange.getResponseHeaders();
+            long length = pack.buffer.capacity();
+            responseHeaders.set("ETag", pack.etag);
+            responseHeaders.set("Accept-Ranges", "bytes");
+            responseHeaders.set("Cache-Control", "no-cache");
+
+            if (matchesETag(requestHeaders.getFirst("If-None-Match"), pack.etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            long start = 0;
+            long end = length - 1;
+            int status = 200;
+            String range = requestHeaders.getFirst("Range");
+            String ifRange = requestHeaders.getFirst("If-Range");
+            if (range != null && (ifRange == null || ifRange.trim().equals(pack.etag))) {
+                long[] bounds = parseRange(range, length);
+                if (bounds == null) {
+                    responseHeaders.set("Content-Range", "bytes */" + length);
+                    exchange.sendResponseHeaders(416, -1);
+                    return;
+                }
+                if (bounds.length == 2) {
+                    start = bounds[0];
+                    end = bounds[1];
+                    status = 206;
+                    responseHeaders.set("Content-Range", "bytes " + start + "-" + end + "/" + length);
+                }
+            }
+
+            long contentLength = end - start + 1;
+            responseHeaders.set("Content-Type", "application/zip");
+            if (head) {
+                responseHeaders.set("Content-Length", String.valueOf(contentLength));
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(status, contentLength);
+            writeRange(exchange.getResponseBody(), pack.buffer, (int) start, (int) contentLength);
+        } catch (IOException ignored) {
+            // Client went away mid-download, it will resume or retry
+        }
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the inclusive bounds of a single satisfiable byte range, an empty array
+     * if the header should be ignored, or null if the range cannot be satisfied
+     */
+    static long[] parseRange(String header, long length) {
+        String value = header.trim();
+        if (!value.startsWith("bytes=") || value.indexOf(',') >= 0) return new long[0];
+        String spec = value.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return new long[0];
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                if (last.isEmpty()) return new long[0];
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) return null;
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+                if (end < start) return last.isEmpty() || Long.parseLong(last) >= start ? null : new long[0];
+            }
+            if (start >= length) return null;
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private static void writeRange(OutputStream out, MappedByteBuffer buffer, int start, int length) throws IOException {
+        ByteBuffer view = buffer.duplicate();
+        view.position(start).limit(start + length);
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, length)];
+        while (view.hasRemaining()) {
+            int size = Math.min(chunk.length, view.remaining());
+            view.get(chunk, 0, size);
+            out.write(chunk, 0, size);
+        }
+    }
+
     private void stopServer() {
         if (httpServer != null) {
             httpServer.stop(0);
@@ -132,6 +304,7 @@ public class SelfHost implements HostingProvider {
             }
             executor = null;
         }
+        servedPack = null;
     }
 
     @Override
@@ -159,4 +332,7 @@ public class SelfHost implements HostingProvider {
     public UUID getPackUUID() {
         return packUUID;
     }
+
+    private record ServedPack(MappedByteBuffer buffer, String etag) {
+    }
 }
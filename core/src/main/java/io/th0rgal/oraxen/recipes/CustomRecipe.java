@@ -3,11 +3,13 @@ package io.th0rgal.oraxen.recipes;
 import io.th0rgal.oraxen.api.OraxenItems;
 import io.th0rgal.oraxen.utils.logs.Logs;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.Recipe;
 import org.bukkit.inventory.ShapedRecipe;
 import org.bukkit.inventory.ShapelessRecipe;
 import org.bukkit.inventory.meta.LeatherArmorMeta;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,18 +19,29 @@ import java.util.Objects;
 public class CustomRecipe {
 
     private final String name;
+    private final NamespacedKey key;
     private final ItemStack result;
     private final List<ItemStack> ingredients;
     private boolean ordered;
 
     public CustomRecipe(String name, ItemStack result, List<ItemStack> ingredients) {
         this.name = name;
+        this.key = null;
         this.result = result;
         this.ingredients = ingredients;
     }
 
     public CustomRecipe(String name, ItemStack result, List<ItemStack> ingredients, boolean ordered) {
         this.name = name;
+        this.key = null;
+        this.result = result;
+        this.ingredients = ingredients;
+        this.ordered = ordered;
+    }
+
+    public CustomRecipe(NamespacedKey key, ItemStack result, List<ItemStack> ingredients, boolean ordered) {
+        this.name = key.getKey();
+        this.key = key;
         this.result = result;
         this.ingredients = ingredients;
         this.ordered = ordered;
@@ -42,6 +55,14 @@ public class CustomRecipe {
         return name;
     }
 
+    /**
+     * @return the key of the Bukkit recipe this was created from, or null if it was not
+     */
+    @Nullable
+    public NamespacedKey getKey() {
+        return key;
+    }
+
     public ItemStack getResult() {
         return result;
     }
@@ -94,11 +115,11 @@ public class CustomRecipe {
                     ingredients.add(map.get(chars[charIndex]));
                 }
             }
-            return new CustomRecipe(recipe.getKey().getKey(), recipe.getResult(), ingredients, true);
+            return new CustomRecipe(recipe.getKey(), recipe.getResult(), ingredients, true);
         } else if (bukkitRecipe instanceof ShapelessRecipe recipe) {
             List<ItemStack> ingredients = new ArrayList<>(9);
             ingredients.addAll(recipe.getIngredientList());
-            return new CustomRecipe(recipe.getKey().getKey(), recipe.getResult(), ingredients, false);
+            return new CustomRecipe(recipe.getKey(), recipe.getResult(), ingredients, false);
         } else return null;
     }
 
@@ -9,6 +9,7 @@ import io.th0rgal.oraxen.recipes.CustomRecipe;
 import io.th0rgal.oraxen.utils.InventoryUtils;
 import io.th0rgal.oraxen.utils.VersionUtil;
 import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
 import org.bukkit.NamespacedKey;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -29,8 +30,9 @@ import java.util.stream.Collectors;
 public class RecipesEventsManager implements Listener {
 
     private static RecipesEventsManager instance;
-    private Map<CustomRecipe, String> permissionsPerRecipe = new HashMap<>();
-    private Set<CustomRecipe> whitelistedCraftRecipes = new HashSet<>();
+    private Map<NamespacedKey, String> permissionsPerRecipe = new HashMap<>();
+    // The ids of the Oraxen items each whitelisted recipe uses as ingredients, computed once on load
+    private Map<NamespacedKey, Set<String>> whitelistedCraftRecipes = new HashMap<>();
     private ArrayList<CustomRecipe> whitelistedCraftRecipesOrdered = new ArrayList<>();
 
     public static RecipesEventsManager get() {
@@ -63,26 +65,34 @@ public class RecipesEventsManager implements Listener {
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onCrafted(PrepareItemCraftEvent event) {
         Recipe recipe = event.getRecipe();
-        CustomRecipe customRecipe = CustomRecipe.fromRecipe(recipe);
-        Player player = InventoryUtils.playerFromView(event);
-        if (!hasPermission(player, customRecipe)) event.getInventory().setResult(null);
+        if (!(recipe instanceof Keyed keyed)) return;
+        NamespacedKey key = keyed.getKey();
+        String permission = permissionsPerRecipe.get(key);
+        if (permission != null && !InventoryUtils.playerFromView(event).hasPermission(permission))
+            event.getInventory().setResult(null);
 
         ItemStack result = event.getInventory().getResult();
         if (result == null) return;
 
-        boolean containsOraxenItem = Arrays.stream(event.getInventory().getMatrix()).anyMatch(OraxenItems::exists);
-        if (!containsOraxenItem || recipe == null) return;
-
-        if (Arrays.stream(event.getInventory().getMatrix()).anyMatch(item -> {
-            if (MiscMechanicFactory.get() == null) return false;
-            MiscMechanic mechanic = MiscMechanicFactory.get().getMechanic(item);
-            return mechanic != null && !mechanic.isAllowedInVanillaRecipes();
-        })) {
-            event.getInventory().setResult(null);
-            return;
+        Set<String> oraxenIngredients = whitelistedCraftRecipes.get(key);
+        MiscMechanicFactory miscFactory = MiscMechanicFactory.get();
+        boolean containsOraxenItem = false;
+        for (ItemStack item : event.getInventory().getMatrix()) {
+            String itemID = OraxenItems.getIdByItem(item);
+            if (itemID == null) continue;
+            containsOraxenItem = true;
+            // Oraxen items are expected in the matrix of a recipe using them, they are not used as vanilla items there
+            if (oraxenIngredients != null && oraxenIngredients.contains(itemID)) continue;
+            MiscMechanic mechanic = miscFactory != null ? miscFactory.getMechanic(itemID) : null;
+            if (mechanic != null && !mechanic.isAllowedInVanillaRecipes()) {
+                event.getInventory().setResult(null);
+                return;
+            }
         }
+        if (!containsOraxenItem || oraxenIngredients != null) return;
 
-        if (customRecipe == null || whitelistedCraftRecipes.stream().anyMatch(customRecipe::equals) || customRecipe.isValidDyeRecipe()) return;
+        CustomRecipe customRecipe = CustomRecipe.fromRecipe(recipe);
+        if (customRecipe == null || customRecipe.isValidDyeRecipe()) return;
 
         event.getInventory().setResult(customRecipe.getResult());
     }
@@ -96,23 +106,27 @@ public class RecipesEventsManager implements Listener {
 
     public void resetRecipes() {
         permissionsPerRecipe = new HashMap<>();
-        whitelistedCraftRecipes = new HashSet<>();
+        whitelistedCraftRecipes = new HashMap<>();
         whitelistedCraftRecipesOrdered = new ArrayList<>();
     }
 
     public void addPermissionRecipe(CustomRecipe recipe, String permission) {
-        permissionsPerRecipe.put(recipe, permission);
+        if (recipe == null || recipe.getKey() == null) return;
+        permissionsPerRecipe.put(recipe.getKey(), permission);
     }
 
     public void whitelistRecipe(CustomRecipe recipe) {
-        whitelistedCraftRecipes.add(recipe);
-        whitelistedCraftRecipesOrdered.add(recipe);
+        if (recipe == null || recipe.getKey() == null) return;
+        Set<String> oraxenIngredients = recipe.getIngredients().stream().map(OraxenItems::getIdByItem)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        if (whitelistedCraftRecipes.put(recipe.getKey(), oraxenIngredients) == null)
+            whitelistedCraftRecipesOrdered.add(recipe);
     }
 
     public List<CustomRecipe> getPermittedRecipes(CommandSender sender) {
         return whitelistedCraftRecipesOrdered
                 .stream()
-                .filter(customRecipe -> !permissionsPerRecipe.containsKey(customRecipe) || hasPermission(sender, customRecipe))
+                .filter(customRecipe -> hasPermission(sender, customRecipe))
                 .toList();
     }
 
@@ -125,7 +139,8 @@ public class RecipesEventsManager implements Listener {
 
 
     public boolean hasPermission(CommandSender sender, CustomRecipe recipe) {
-        return !permissionsPerRecipe.containsKey(recipe) || sender.hasPermission(permissionsPerRecipe.get(recipe));
+        String permission = recipe != null && recipe.getKey() != null ? permissionsPerRecipe.get(recipe.getKey()) : null;
+        return permission == null || sender.hasPermission(permission);
     }
 
 }
@@ -136,6 +136,14 @@ public class BlockHelpers {
         return new CustomBlockData(block, plugin);
     }
 
+    /** Returns the key CustomBlockData stores the PersistentDataContainer of a block under, in the one of its chunk.
+     * Lets callers handling many blocks of a chunk resolve the chunk's container only once
+     * @param block The block to get the key for
+     * */
+    public static NamespacedKey getPDCKey(Block block) {
+        return new NamespacedKey(OraxenPlugin.get(), "x" + (block.getX() & 0xF) + "y" + block.getY() + "z" + (block.getZ() & 0xF));
+    }
+
     public static final Set<Material> UNBREAKABLE_BLOCKS = Sets.newHashSet(Material.BEDROCK, Material.BARRIER, Material.NETHER_PORTAL, Material.END_PORTAL_FRAME, Material.END_PORTAL, Material.END_GATEWAY);
 
     static {
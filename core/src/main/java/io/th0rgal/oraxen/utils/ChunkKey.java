@@ -0,0 +1,30 @@
+package io.th0rgal.oraxen.utils;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.UUID;
+
+/**
+ * Identifies a chunk without holding a reference to it or its world.
+ */
+public record ChunkKey(UUID world, int x, int z) {
+
+    public static ChunkKey of(World world, int x, int z) {
+        return new ChunkKey(world.getUID(), x, z);
+    }
+
+    public static ChunkKey of(Chunk chunk) {
+        return of(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+
+    public static ChunkKey of(Block block) {
+        return of(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+    }
+
+    public static ChunkKey of(Location location) {
+        return of(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+}
@@ -0,0 +1,185 @@
+package io.th0rgal.oraxen.utils;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Tracks the values a repeating task processes, ordered by the run they are next due.
+ * <p>
+ * Each run only returns the values that are due, so values that only wait for time are
+ * skipped until then instead of being visited every run. A value is tracked at most once
+ * under its key, scheduling it again replaces its previous entry. Values can also be grouped
+ * by chunk, to stop tracking everything in a chunk when it unloads.
+ *
+ * @param <K> the key values are tracked under
+ * @param <V> the tracked values
+ */
+public class DueQueue<K, V> {
+
+    /**
+     * Passed instead of an amount of runs to stop tracking a value.
+     */
+    public static final long UNTRACK = -1;
+
+    private final Function<V, K> keyOf;
+    @Nullable
+    private final Function<V, ChunkKey> chunkOf;
+    private final Map<K, Entry<V>> tracked = new HashMap<>();
+    private final Map<ChunkKey, Set<K>> trackedByChunk = new HashMap<>();
+    private final PriorityQueue<Entry<V>> dueQueue = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.dueRun));
+    private long currentRun;
+
+    /**
+     * @param chunkOf the chunk of a value, or null if values are not grouped by chunk
+     */
+    public DueQueue(Function<V, K> keyOf, @Nullable Function<V, ChunkKey> chunkOf) {
+        this.keyOf = keyOf;
+        this.chunkOf = chunkOf;
+    }
+
+    /**
+     * Tracks a value, replacing its previous entry.
+     *
+     * @param runs the amount of runs until it is due
+     */
+    public synchronized void schedule(V value, long runs) {
+        K key = keyOf.apply(value);
+        Entry<V> entry = new Entry<>(value, currentRun, currentRun + runs);
+        Entry<V> previous = tracked.put(key, entry);
+        if (previous != null) previous.removed = true;
+        if (chunkOf != null) trackedByChunk.computeIfAbsent(chunkOf.apply(value), k -> new HashSet<>()).add(key);
+        dueQueue.add(entry);
+    }
+
+    /**
+     * Schedules the next check of an entry processed in the given run.
+     *
+     * @param runs the amount of runs until it is due again, or {@link #UNTRACK}
+     */
+    public synchronized void reschedule(Entry<V> entry, long run, long runs) {
+        if (entry.removed) return;
+        if (runs == UNTRACK) {
+            untrack(entry);
+            return;
+        }
+        entry.lastRun = run;
+        entry.dueRun = run + runs;
+        dueQueue.add(entry);
+    }
+
+    /**
+     * @return the entry that was tracked under the key, or null if there was none
+     */
+    @Nullable
+    public synchronized Entry<V> untrack(K key) {
+        Entry<V> entry = tracked.get(key);
+        if (entry != null) untrack(entry);
+        return entry;
+    }
+
+    public synchronized void untrack(Entry<V> entry) {
+        entry.removed = true;
+        K key = keyOf.apply(entry.value);
+        if (!tracked.remove(key, entry) || chunkOf == null) return;
+        ChunkKey chunk = chunkOf.apply(entry.value);
+        Set<K> keys = trackedByChunk.get(chunk);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) trackedByChunk.remove(chunk);
+    }
+
+    /**
+     * @return the entries that were tracked in the chunk
+     */
+    public synchronized List<Entry<V>> untrackChunk(ChunkKey chunk) {
+        Set<K> keys = trackedByChunk.remove(chunk);
+        if (keys == null) return List.of();
+        List<Entry<V>> entries = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            Entry<V> entry = tracked.remove(key);
+            if (entry == null) continue;
+            entry.removed = true;
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * @return every entry that was tracked
+     */
+    public synchronized List<Entry<V>> clear() {
+        List<Entry<V>> entries = new ArrayList<>(tracked.values());
+        entries.forEach(entry -> entry.removed = true);
+        tracked.clear();
+        trackedByChunk.clear();
+        dueQueue.clear();
+        return entries;
+    }
+
+    /**
+     * Starts the next run.
+     *
+     * @return the run, to pass to {@link #due(long)} and {@link #reschedule(Entry, long, long)}
+     */
+    public synchronized long nextRun() {
+        return ++currentRun;
+    }
+
+    /**
+     * @return the entries that are due in the given run, they are not queued anymore until rescheduled
+     */
+    public synchronized List<Entry<V>> due(long run) {
+        List<Entry<V>> due = new ArrayList<>();
+        while (!dueQueue.isEmpty() && dueQueue.peek().dueRun <= run) {
+            Entry<V> entry = dueQueue.poll();
+            if (!entry.removed) due.add(entry);
+        }
+        return due;
+    }
+
+    /**
+     * Accounts for the runs an entry was skipped for since it was last processed, so their progress can be written.
+     *
+     * @return the amount of runs the entry was skipped for
+     */
+    public synchronized long flush(Entry<V> entry) {
+        long skipped = currentRun - entry.lastRun;
+        entry.lastRun = currentRun;
+        return skipped;
+    }
+
+    public static final class Entry<V> {
+        private final V value;
+        private volatile long lastRun;
+        private long dueRun;
+        private volatile boolean removed;
+
+        private Entry(V value, long lastRun, long dueRun) {
+            this.value = value;
+            this.lastRun = lastRun;
+            this.dueRun = dueRun;
+        }
+
+        public V value() {
+            return value;
+        }
+
+        public boolean isRemoved() {
+            return removed;
+        }
+
+        /**
+         * @return the amount of runs since the entry was last processed or flushed
+         */
+        public long runsSince(long run) {
+            return run - lastRun;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package io.th0rgal.oraxen.utils;
+
+import io.th0rgal.oraxen.utils.logs.Logs;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Zip writer that deflates entries concurrently on a bounded pool and writes the raw
+ * compressed data, local headers and central directory itself, in input order.
+ * <p>
+ * Each entry is stored as STORED or DEFLATED depending on the measured gain. Already
+ * compressed formats (png, ogg...) are probed at {@link Deflater#BEST_SPEED} and only
+ * kept deflated if that saves at least {@link #MIN_PRECOMPRESSED_GAIN} of their size.
+ * The SHA1 of the archive is computed as it is written, so it never needs to be read back.
+ */
+public class ParallelZipWriter {
+
+    private static final Set<String> PRECOMPRESSED_EXTENSIONS = Set.of("png", "ogg", "jpg", "jpeg", "zip", "jar");
+    private static final double MIN_PRECOMPRESSED_GAIN = 0.04;
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final int VERSION = 20;
+    // 1980-01-01 00:00, the earliest DOS date, keeps the output reproducible
+    private static final int DOS_TIME = 0;
+    private static final int DOS_DATE = (1 << 5) | 1;
+
+    private final int level;
+    private final int threads;
+    private final String comment;
+    private final boolean protection;
+    private final Consumer<String> duplicateHandler;
+
+    /**
+     * @param level            the deflate level used for regular entries
+     * @param threads          the number of threads deflating entries concurrently
+     * @param comment          the archive comment
+     * @param protection       whether to write misleading sizes and CRCs in the central directory of deflated entries
+     * @param duplicateHandler called with the path of entries skipped because an entry with the same path was already written
+     */
+    public ParallelZipWriter(int level, int threads, String comment, boolean protection, Consumer<String> duplicateHandler) {
+        this.level = level;
+        this.threads = Math.max(1, threads);
+        this.comment = comment == null ? "" : comment;
+        this.protection = protection;
+        this.duplicateHandler = duplicateHandler;
+    }
+
+    public static int defaultThreads() {
+        return Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * @return the hex encoded SHA1 of the written archive
+     */
+    public String write(File outputFile, List<VirtualFile> files) throws IOException {
+        AtomicInteger threadId = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Oraxen-Zip-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Bound the amount of compressed entries kept in memory while waiting to be written
+        int window = threads * 16;
+        Deque<Future<CompressedEntry>> pending = new ArrayDeque<>();
+        List<CompressedEntry> written = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+
+        try (CountingOutputStream out = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(outputFile), 1 << 16))) {
+            for (VirtualFile file : files) {
+                String path = file.getPath();
+                if (!names.add(path)) {
+                    duplicateHandler.accept(path);
+                    continue;
+                }
+
+                // Opened on the worker so that lazily backed files only hold a descriptor while being compressed
+                pending.add(pool.submit(() -> compress(path, file.getInputStream())));
+                if (pending.size() >= window)
+                    writeEntry(out, await(pending.poll()), written);
+            }
+            while (!pending.isEmpty())
+                writeEntry(out, await(pending.poll()), written);
+
+            writeCentralDirectory(out, written);
+            return out.sha1();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private CompressedEntry compress(String path, @Nullable InputStream inputStream) throws IOException {
+        byte[] raw;
+        if (inputStream == null) {
+            Logs.logWarning("Skipping zip entry with null input stream: " + path);
+            raw = new byte[0];
+        } else try (InputStream in = inputStream) {
+            raw = in.readAllBytes();
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+        byte[] name = path.getBytes(StandardCharsets.UTF_8);
+        if (raw.length == 0)
+            return new CompressedEntry(name, METHOD_STORED, crc.getValue(), raw.length, raw);
+
+        boolean precompressed = PRECOMPRESSED_EXTENSIONS.contains(extension(path));
+        byte[] deflated = deflate(raw, precompressed ? Deflater.BEST_SPEED : level);
+        long minimumGain = precompressed ? (long) Math.ceil(raw.length * MIN_PRECOMPRESSED_GAIN) : 1;
+        if (raw.length - deflated.length < minimumGain)
+            return new CompressedEntry(name, METHOD_STORED, crc.getValue(), raw.length, raw);
+        return new CompressedEntry(name, METHOD_DEFLATED, crc.getValue(), raw.length, deflated);
+    }
+
+    private static byte[] deflate(byte[] raw, int level) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String extension(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot < 0 ? "" : path.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static CompressedEntry await(Future<CompressedEntry> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing the pack", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to compress a pack entry", e.getCause());
+        }
+    }
+
+    private void writeEntry(CountingOutputStream out, CompressedEntry entry, List<CompressedEntry> written) throws IOException {
+        entry.offset = out.count;
+        writeInt(out, 0x04034b50);
+        writeShort(out, VERSION);
+        writeShort(out, FLAG_UTF8);
+        writeShort(out, entry.method);
+        writeShort(out, DOS_TIME);
+        writeShort(out, DOS_DATE);
+        writeInt(out, entry.crc);
+        writeInt(out, entry.data.length);
+        writeInt(out, entry.size);
+        writeShort(out, entry.name.length);
+        writeShort(out, 0);
+        out.write(entry.name);
+        out.write(entry.data);
+        // Only the header is needed for the central directory
+        entry.data = null;
+        written.add(entry);
+    }
+
+    private void writeCentralDirectory(CountingOutputStream out, List<CompressedEntry> entries) throws IOException {
+        if (entries.size() > 0xFFFF || out.count > 0xFFFFFFFFL)
+            throw new IOException("Pack is too large to be written without Zip64");
+
+        long start = out.count;
+        for (CompressedEntry entry : entries) {
+            boolean protect = protection && entry.method == METHOD_DEFLATED;
+            writeInt(out, 0x02014b50);
+            writeShort(out, VERSION);
+            writeShort(out, VERSION);
+            writeShort(out, FLAG_UTF8);
+            writeShort(out, entry.method);
+            writeShort(out, DOS_TIME);
+            writeShort(out, DOS_DATE);
+            writeInt(out, protect ? 1024 : entry.crc);
+            writeInt(out, entry.compressedSize);
+            // A bogus uncompressed size makes common extractors allocate or write gigabytes
+            writeInt(out, protect ? ((entry.crc * 31 + entry.size) & 0x3FFFFFFFL) | 0x40000000L : entry.size);
+            writeShort(out, entry.name.length);
+            writeShort(out, 0);
+            writeShort(out, 0);
+            writeShort(out, 0);
+            writeShort(out, 0);
+            writeInt(out, 0);
+            writeInt(out, entry.offset);
+            out.write(entry.name);
+        }
+        long size = out.count - start;
+
+        byte[] commentBytes = comment.getBytes(StandardCharsets.UTF_8);
+        writeInt(out, 0x06054b50);
+        writeShort(out, 0);
+        writeShort(out, 0);
+        writeShort(out, entries.size());
+        writeShort(out, entries.size());
+        writeInt(out, size);
+        writeInt(out, start);
+        writeShort(out, Math.min(commentBytes.length, 0xFFFF));
+        out.write(commentBytes, 0, Math.min(commentBytes.length, 0xFFFF));
+    }
+
+    private static void writeShort(OutputStream out, int value) throws IOException {
+        out.write(value & 0xFF);
+        out.write((value >>> 8) & 0xFF);
+    }
+
+    private static void writeInt(OutputStream out, long value) throws IOException {
+        out.write((int) (value & 0xFF));
+        out.write((int) ((value >>> 8) & 0xFF));
+        out.write((int) ((value >>> 16) & 0xFF));
+        out.write((int) ((value >>> 24) & 0xFF));
+    }
+
+    private static class CompressedEntry {
+        private final byte[] name;
+        private final int method;
+        private final long crc;
+        private final long size;
+        private final long compressedSize;
+        private byte[] data;
+        private long offset;
+
+        private CompressedEntry(byte[] name, int method, long crc, long size, byte[] data) {
+            this.name = name;
+            this.method = method;
+            this.crc = crc;
+            this.size = size;
+            this.compressedSize = data.length;
+            this.data = data;
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private final MessageDigest digest;
+        private long count;
+
+        private CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            digest.update((byte) b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            digest.update(b, off, len);
+            count += len;
+        }
+
+        private String sha1() {
+            byte[] hash = digest.digest();
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) sb.append(String.format("%02x", b));
+            return sb.toString();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
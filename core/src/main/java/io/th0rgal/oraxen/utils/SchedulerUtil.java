@@ -9,6 +9,11 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -34,6 +39,10 @@ public final class SchedulerUtil {
     private static Method entityRunDelayedMethod;
     private static Method entityRunAtFixedRateMethod;
     private static Method taskCancelMethod;
+    private static Method ownedByCurrentRegionMethod;
+
+    // Folia regions are made of sections of 2^4 x 2^4 chunks, entities of a section always share a region
+    private static final int REGION_SECTION_SHIFT = 4;
 
     private static boolean foliaInitialized = false;
     private static Exception foliaInitException = null;
@@ -110,6 +119,12 @@ public final class SchedulerUtil {
         entityRunMethod = entitySchedulerClass.getMethod("run", Plugin.class, Consumer.class, Runnable.class);
         entityRunDelayedMethod = entitySchedulerClass.getMethod("runDelayed", Plugin.class, Consumer.class, Runnable.class, long.class);
         entityRunAtFixedRateMethod = entitySchedulerClass.getMethod("runAtFixedRate", Plugin.class, Consumer.class, Runnable.class, long.class, long.class);
+
+        // Only used to batch entity tasks, entities fall back to their own task without it
+        try {
+            ownedByCurrentRegionMethod = Bukkit.class.getMethod("isOwnedByCurrentRegion", Entity.class);
+        } catch (NoSuchMethodException ignored) {
+        }
     }
 
     private SchedulerUtil() {
@@ -460,6 +475,62 @@ public final class SchedulerUtil {
         return new ScheduledTask(task);
     }
 
+    /**
+     * Runs an action for every given entity, batched into one task per region instead of one task per entity.
+     * On Bukkit the whole batch runs in a single main thread task, or right away if already on the main thread.
+     * On Folia entities are grouped by region section and each group runs in one region task,
+     * entities that moved to another region in the meantime falling back to their own entity task.
+     *
+     * @param entities The entities to run the action for
+     * @param action   The action to run, on the thread owning the entity
+     */
+    public static <E extends Entity> void runForEntities(Collection<? extends E> entities, Consumer<? super E> action) {
+        runForEntities(OraxenPlugin.get(), entities, action);
+    }
+
+    /**
+     * Runs an action for every given entity, batched into one task per region instead of one task per entity.
+     */
+    public static <E extends Entity> void runForEntities(Plugin plugin, Collection<? extends E> entities, Consumer<? super E> action) {
+        if (entities.isEmpty()) return;
+        if (VersionUtil.isFoliaServer() && foliaInitialized) {
+            Map<RegionSection, List<E>> sections = new HashMap<>();
+            for (E entity : entities) {
+                Location location = entity.getLocation();
+                RegionSection section = new RegionSection(location.getWorld(),
+                        location.getBlockX() >> (4 + REGION_SECTION_SHIFT), location.getBlockZ() >> (4 + REGION_SECTION_SHIFT));
+                sections.computeIfAbsent(section, k -> new ArrayList<>()).add(entity);
+            }
+            for (List<E> batch : sections.values()) {
+                runAtLocation(plugin, batch.getFirst().getLocation(), () -> {
+                    for (E entity : batch) {
+                        if (isOwnedByCurrentRegion(entity)) action.accept(entity);
+                        else runForEntity(plugin, entity, () -> action.accept(entity), null);
+                    }
+                });
+            }
+            return;
+        }
+        ensureFoliaReady(); // Throws if on Folia but init failed
+        if (Bukkit.isPrimaryThread()) entities.forEach(action);
+        else {
+            List<E> batch = List.copyOf(entities);
+            Bukkit.getScheduler().runTask(plugin, () -> batch.forEach(action));
+        }
+    }
+
+    private static boolean isOwnedByCurrentRegion(Entity entity) {
+        if (ownedByCurrentRegionMethod == null) return false;
+        try {
+            return (boolean) ownedByCurrentRegionMethod.invoke(null, entity);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private record RegionSection(World world, int x, int z) {
+    }
+
     /**
      * Cancels a task by its ID (Bukkit only, no-op on Folia since we use ScheduledTask).
      */
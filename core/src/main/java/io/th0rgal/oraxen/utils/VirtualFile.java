@@ -4,37 +4,124 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import io.th0rgal.oraxen.utils.logs.Logs;
-import org.apache.commons.io.IOUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+/**
+ * A file of the generated resourcepack.
+ * <p>
+ * The content is backed by either a {@link Path} read lazily, an in-memory byte array or,
+ * for backwards compatibility, a one-shot {@link InputStream}. Path and byte backed files hand out
+ * a fresh stream on every {@link #getInputStream()} call, so they never keep a descriptor open
+ * until they are actually read. The parsed json tree is memoized until the content changes.
+ */
 public class VirtualFile implements Comparable<VirtualFile> {
 
     private String parentFolder;
     private String name;
     private InputStream inputStream;
+    private Path source;
+    private byte[] content;
+    private JsonElement jsonElement;
+    private boolean jsonParsed;
 
     public VirtualFile(String parentFolder, String name, InputStream inputStream) {
+        setParentFolder(parentFolder);
+        this.name = name;
+        this.inputStream = inputStream;
+    }
+
+    public VirtualFile(String parentFolder, String name, Path source) {
+        setParentFolder(parentFolder);
+        this.name = name;
+        this.source = source;
+    }
+
+    public VirtualFile(String parentFolder, String name, byte[] content) {
+        setParentFolder(parentFolder);
+        this.name = name;
+        this.content = content;
+    }
+
+    private void setParentFolder(String parentFolder) {
         parentFolder = OS.getOs().getName().startsWith("Windows")
                 ? parentFolder.replace("\\", "/")
                 : parentFolder;
         this.parentFolder = parentFolder.endsWith("/")
                 ? parentFolder.substring(0, parentFolder.length() - 1)
                 : parentFolder;
-        this.name = name;
-        this.inputStream = inputStream;
     }
 
+    /**
+     * @return a stream over the content of this file. Path and byte backed files return a new stream on every call,
+     * stream backed files return the same stream, which callers have to restore with {@link #setInputStream(InputStream)}
+     */
+    @Nullable
     public InputStream getInputStream() {
+        if (content != null)
+            return new ByteArrayInputStream(content);
+        if (source != null) {
+            try {
+                return Files.newInputStream(source);
+            } catch (IOException e) {
+                Logs.logWarning("Failed to read " + source);
+                return null;
+            }
+        }
         return inputStream;
     }
 
     public void setInputStream(InputStream inputStream) {
         this.inputStream = inputStream;
+        this.source = null;
+        this.content = null;
+        invalidateJson();
+    }
+
+    /**
+     * Replaces the content of this file with the given bytes
+     */
+    public void setContent(byte[] content) {
+        this.content = content;
+        this.inputStream = null;
+        this.source = null;
+        invalidateJson();
+    }
+
+    /**
+     * Whether {@link #getInputStream()} can be consumed without having to restore it afterwards
+     */
+    public boolean isReusable() {
+        return content != null || source != null;
+    }
+
+    /**
+     * Reads the content of this file, keeping it in memory so the file is opened at most once.
+     *
+     * @return the content, or null if it could not be read
+     */
+    @Nullable
+    public byte[] getBytes() {
+        if (content != null)
+            return content;
+        InputStream stream = getInputStream();
+        if (stream == null)
+            return null;
+        try (stream) {
+            content = stream.readAllBytes();
+            inputStream = null;
+            source = null;
+            return content;
+        } catch (IOException e) {
+            return null;
+        }
     }
 
     public String getPath() {
@@ -56,19 +143,26 @@ public class VirtualFile implements Comparable<VirtualFile> {
         return other.getPath().compareTo(getPath());
     }
 
+    /**
+     * Parses the content of this file as json. The parsed tree is cached until the content is replaced,
+     * callers modifying it have to write it back through {@link #setContent(byte[])}.
+     */
     @Nullable
     public JsonElement toJsonElement() {
-        InputStream fontInput = inputStream;
-        String fontContent;
+        if (jsonParsed)
+            return jsonElement;
+        jsonParsed = true;
         try {
-            fontContent = IOUtils.toString(fontInput, StandardCharsets.UTF_8);
-            inputStream.close();
-            inputStream = new ByteArrayInputStream(fontContent.getBytes(StandardCharsets.UTF_8));
-            return JsonParser.parseString(fontContent);
+            byte[] data = getBytes();
+            jsonElement = data == null ? null : JsonParser.parseString(new String(data, StandardCharsets.UTF_8));
         } catch (Exception e) {
+            jsonElement = null;
+        }
+        if (jsonElement == null || jsonElement.isJsonNull()) {
+            jsonElement = null;
             Logs.logError(Utils.removeParentDirs(getPath()) + " was empty");
-            return null;
         }
+        return jsonElement;
     }
 
     @Nullable
@@ -82,4 +176,9 @@ public class VirtualFile implements Comparable<VirtualFile> {
         return element != null && element.isJsonObject();
     }
 
+    private void invalidateJson() {
+        jsonElement = null;
+        jsonParsed = false;
+    }
+
 }
@@ -2,71 +2,33 @@ package io.th0rgal.oraxen.utils;
 
 import io.th0rgal.oraxen.config.Settings;
 import io.th0rgal.oraxen.pack.generation.DuplicationHandler;
-import io.th0rgal.oraxen.utils.logs.Logs;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.math.BigInteger;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.zip.Deflater;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 public class ZipUtils {
 
     private ZipUtils() {
     }
 
-    public static void writeZipFile(final File outputFile,
+    /**
+     * @return the hex encoded SHA1 of the written zip, or null if it could not be written
+     */
+    @Nullable
+    public static String writeZipFile(final File outputFile,
             final List<VirtualFile> fileList) {
 
-        try (final FileOutputStream fos = new FileOutputStream(outputFile);
-                final ZipOutputStream zos = new ZipOutputStream(fos, StandardCharsets.UTF_8)) {
+        try {
             final int compressionLevel = Deflater.class.getDeclaredField(Settings.COMPRESSION.toString()).getInt(null);
-            zos.setLevel(compressionLevel);
-            zos.setComment(Settings.COMMENT.toString());
-            for (final VirtualFile file : fileList) {
-                addToZip(file.getPath(), file.getInputStream(), zos);
-            }
-
+            return new ParallelZipWriter(compressionLevel, ParallelZipWriter.defaultThreads(), Settings.COMMENT.toString(),
+                    Settings.PROTECTION.toBool(), DuplicationHandler::handleDuplicateEntry)
+                    .write(outputFile, fileList);
         } catch (final IOException | NoSuchFieldException | IllegalAccessException ex) {
             ex.printStackTrace();
-        }
-    }
-
-    public static void addToZip(String zipFilePath, final InputStream fis, ZipOutputStream zos) throws IOException {
-        final ZipEntry zipEntry = new ZipEntry(zipFilePath);
-        zipEntry.setLastModifiedTime(FileTime.fromMillis(0L));
-        DuplicationHandler.checkForDuplicate(zos, zipEntry);
-
-        if (fis == null) {
-            Logs.logWarning("Skipping zip entry with null input stream: " + zipFilePath);
-            try {
-                zos.closeEntry();
-            } catch (IOException ignored) {
-            }
-            return;
-        }
-
-        final byte[] bytes = new byte[1024];
-        int length;
-        try (InputStream in = fis) {
-            while ((length = in.read(bytes)) >= 0)
-                zos.write(bytes, 0, length);
-        } catch (IOException ignored) {
-        } finally {
-            try {
-                zos.closeEntry();
-            } catch (IOException ignored) {
-            }
-            if (Settings.PROTECTION.toBool()) {
-                zipEntry.setCrc(bytes.length);
-                zipEntry.setSize(new BigInteger(bytes).mod(BigInteger.valueOf(Long.MAX_VALUE)).longValue());
-            }
+            return null;
         }
     }
 }
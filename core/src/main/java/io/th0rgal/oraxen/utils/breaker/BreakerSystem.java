@@ -50,6 +50,8 @@ import static io.th0rgal.oraxen.mechanics.provided.gameplay.block.BlockMechanicF
 public abstract class BreakerSystem {
 
     public static final List<HardnessModifier> MODIFIERS = new ArrayList<>();
+    private static final double VIEWER_RADIUS = 16;
+    private static final int VIEWER_REFRESH_PERIODS = 4;
     // Use thread-safe collections for Folia compatibility (concurrent region thread access)
     private final Set<Location> breakerLocations = ConcurrentHashMap.newKeySet();
     private final Map<Location, SchedulerUtil.ScheduledTask> breakerTasks = new ConcurrentHashMap<>();
@@ -126,6 +128,8 @@ public abstract class BreakerSystem {
 
                 // Methods for sending multi-barrier block-breaks
                 final List<Location> furnitureBarrierLocations = furnitureBarrierLocations(furnitureMechanic, block);
+                final List<Location> breakLocations = furnitureMechanic != null ? furnitureBarrierLocations : List.of(location);
+                final BreakViewers viewers = new BreakViewers(location);
                 startBlockHitSound(location);
 
                 final int[] valueHolder = {0};
@@ -139,13 +143,7 @@ public abstract class BreakerSystem {
                     if (item.getEnchantmentLevel(EnchantmentWrapper.EFFICIENCY) >= 5)
                         valueHolder[0] = 10;
 
-                    for (final Entity entity : world.getNearbyEntities(location, 16, 16, 16)) {
-                        if (entity instanceof Player viewer) {
-                            if (furnitureMechanic != null) for (Location barrierLoc : furnitureBarrierLocations)
-                                sendBlockBreak(viewer, barrierLoc, valueHolder[0]);
-                            else sendBlockBreak(viewer, location, valueHolder[0]);
-                        }
-                    }
+                    sendBlockBreak(viewers.get(), breakLocations, valueHolder[0]);
 
                     if (valueHolder[0]++ < 10) return;
                     if (EventUtils.callEvent(new BlockBreakEvent(block, player)) && ProtectionLib.canBreak(player, location)) {
@@ -160,20 +158,8 @@ public abstract class BreakerSystem {
 
                     stopBlockBreaker(location);
                     stopBlockHitSound(location);
-                    for (final Entity entity : world.getNearbyEntities(location, 16, 16, 16)) {
-                        if (entity instanceof Player viewer) {
-                            // Send block break animation to each viewer on their own thread
-                            SchedulerUtil.runForEntity(viewer, () -> {
-                                if (furnitureMechanic != null) {
-                                    for (Location barrierLoc : furnitureBarrierLocations) {
-                                        sendBlockBreak(viewer, barrierLoc, valueHolder[0]);
-                                    }
-                                } else {
-                                    sendBlockBreak(viewer, location, valueHolder[0]);
-                                }
-                            });
-                        }
-                    }
+                    viewers.refresh();
+                    sendBlockBreak(viewers.get(), breakLocations, valueHolder[0]);
                 });
                 breakerTasks.put(location, breakerTask);
             });
@@ -190,13 +176,61 @@ public abstract class BreakerSystem {
                     player.sendBlockChange(location, block.getBlockData());
             });
 
-            SchedulerUtil.runAtLocation(location, () -> {
-                for (final Entity entity : world.getNearbyEntities(location, 16, 16, 16)) {
-                    if (entity instanceof Player viewer) {
-                        SchedulerUtil.runForEntity(viewer, () -> sendBlockBreak(viewer, location, 10));
-                    }
-                }
-            });
+            SchedulerUtil.runAtLocation(location, () -> sendBlockBreak(getViewers(location), List.of(location), 10));
+        }
+    }
+
+    /**
+     * Sends the break stage of every location to every viewer in one pass.
+     * Packets are sent straight from the calling thread, the packet libraries being thread-safe.
+     */
+    private void sendBlockBreak(List<Player> viewers, List<Location> locations, int stage) {
+        for (Player viewer : viewers) {
+            if (!viewer.isOnline()) continue;
+            for (Location location : locations) sendBlockBreak(viewer, location, stage);
+        }
+    }
+
+    /**
+     * @return the players within {@link #VIEWER_RADIUS} blocks of the location, from the players of its world
+     * rather than a lookup of every nearby entity
+     */
+    private static List<Player> getViewers(Location location) {
+        World world = location.getWorld();
+        if (world == null) return List.of();
+        List<Player> viewers = new ArrayList<>();
+        for (Player player : world.getPlayers()) {
+            Location playerLocation = player.getLocation();
+            if (Math.abs(playerLocation.getX() - location.getX()) <= VIEWER_RADIUS
+                    && Math.abs(playerLocation.getY() - location.getY()) <= VIEWER_RADIUS
+                    && Math.abs(playerLocation.getZ() - location.getZ()) <= VIEWER_RADIUS)
+                viewers.add(player);
+        }
+        return viewers;
+    }
+
+    /**
+     * Viewers of a block being broken, only resolved again every {@link #VIEWER_REFRESH_PERIODS} break stages.
+     */
+    private static final class BreakViewers {
+        private final Location location;
+        private List<Player> viewers;
+        private int periodsLeft;
+
+        private BreakViewers(Location location) {
+            this.location = location;
+        }
+
+        private List<Player> get() {
+            if (viewers == null || periodsLeft-- <= 0) {
+                viewers = getViewers(location);
+                periodsLeft = VIEWER_REFRESH_PERIODS - 1;
+            }
+            return viewers;
+        }
+
+        private void refresh() {
+            viewers = null;
         }
     }
 
@@ -75,12 +75,21 @@ public class ShaderArmorTextures {
         return StringUtils.substringBeforeLast(itemId, "_");
     }
 
-    public boolean registerImage(File file) {
+    /**
+     * Whether the file is an armor layer texture that {@link #registerImage(File)} would try to register.
+     */
+    public static boolean isArmorTexture(File file) {
         String name = file.getName();
 
         if (!name.endsWith(".png")) return false;
         if (!name.contains("armor_layer") && !name.contains("leather_layer")) return false;
-        if (!Settings.CUSTOM_ARMOR_SHADER_GENERATE_CUSTOM_TEXTURES.toBool()) return false;
+        return Settings.CUSTOM_ARMOR_SHADER_GENERATE_CUSTOM_TEXTURES.toBool();
+    }
+
+    public boolean registerImage(File file) {
+        String name = file.getName();
+
+        if (!isArmorTexture(file)) return false;
 
         BufferedImage img;
         try {
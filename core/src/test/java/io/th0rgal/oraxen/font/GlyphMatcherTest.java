@@ -0,0 +1,134 @@
+package io.th0rgal.oraxen.font;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for GlyphMatcher.
+ *
+ * Run with: ./gradlew :core:test --tests
+ * "io.th0rgal.oraxen.font.GlyphMatcherTest"
+ */
+public class GlyphMatcherTest {
+
+    private final GlyphMatcher<String> matcher = new GlyphMatcher<String>()
+            .addTag("smile", "smile")
+            .addTag("smiley", "smiley")
+            .addPlaceholder(":)", "smile")
+            .addPlaceholder(":))", "smiley")
+            .addCharacter('', "smile")
+            .build();
+
+    @Test
+    void testTagsWithArguments() {
+        List<GlyphMatcher.Match<String>> matches = matcher.find("a <glyph:smile> b <g:smiley:c:#ffffff>", false);
+        assertEquals(2, matches.size());
+        assertMatch(matches.get(0), 2, 15, "smile", GlyphMatcher.Kind.TAG);
+        assertMatch(matches.get(1), 18, 38, "smiley", GlyphMatcher.Kind.TAG);
+    }
+
+    @Test
+    void testIncompleteTagsAreIgnored() {
+        assertTrue(matcher.find("<glyph:smile2> <glyph:smile:> <glyph:smile", false).isEmpty());
+    }
+
+    @Test
+    void testLongestPlaceholderWins() {
+        List<GlyphMatcher.Match<String>> matches = matcher.find(":)) :)", false);
+        assertEquals(2, matches.size());
+        assertMatch(matches.get(0), 0, 3, "smiley", GlyphMatcher.Kind.PLACEHOLDER);
+        assertMatch(matches.get(1), 4, 6, "smile", GlyphMatcher.Kind.PLACEHOLDER);
+    }
+
+    @Test
+    void testEscapedMatches() {
+        List<GlyphMatcher.Match<String>> matches = matcher.find("\\<glyph:smile> \\:)", false);
+        assertEquals(2, matches.size());
+        assertTrue(matches.get(0).escaped());
+        assertTrue(matches.get(1).escaped());
+    }
+
+    @Test
+    void testCharactersOnlyWhenRequested() {
+        String text = "xy";
+        assertTrue(matcher.find(text, false).isEmpty());
+
+        List<GlyphMatcher.Match<String>> matches = matcher.find(text, true);
+        assertEquals(1, matches.size());
+        assertMatch(matches.get(0), 1, 2, "smile", GlyphMatcher.Kind.CHARACTER);
+    }
+
+    @Test
+    void testTextWithoutGlyphs() {
+        assertTrue(matcher.find("just some <red>text</red> :( ", true).isEmpty());
+    }
+
+    @Test
+    void testAnyMatch() {
+        assertFalse(matcher.anyMatch("stone_bricks", true));
+        assertFalse(matcher.anyMatch("<red>", false));
+        assertFalse(matcher.anyMatch("hi :(", false));
+        assertFalse(matcher.anyMatch("<glyph:smile", false));
+        assertTrue(matcher.anyMatch("hi :)", false));
+        assertTrue(matcher.anyMatch("<g:smiley:c:#ffffff>", false));
+        assertFalse(matcher.anyMatch("x", false));
+        assertTrue(matcher.anyMatch("x", true));
+    }
+
+    @Test
+    void testAnyMatchWithBundledGlyphs() throws IOException {
+        GlyphMatcher<String> bundled = loadBundledGlyphs("emoji.yml", "chat_tags.yml", "animations.yml");
+
+        // Common packet strings sharing the first character of the bundled placeholders and tags
+        assertFalse(bundled.anyMatch("{\"text\":\"hello\",\"color\":\"red\"}", false));
+        assertFalse(bundled.anyMatch("{\"translate\":\"block.minecraft.stone\",\"with\":[\"a:b\"]}", false));
+        assertFalse(bundled.anyMatch("minecraft:stone", false));
+        assertFalse(bundled.anyMatch("oraxen:items/farmer_hoe", false));
+        assertFalse(bundled.anyMatch("<red>hello</red> 1 < 2", false));
+
+        assertTrue(bundled.anyMatch("{\"text\":\"hi :farmer:\"}", false));
+        assertTrue(bundled.anyMatch("i <3 cake", false));
+        assertTrue(bundled.anyMatch("<glyph:heart>", false));
+    }
+
+    /**
+     * Adds every glyph of the bundled glyph configs as tag, and their chat placeholders.
+     * The configs are read line by line as the Bukkit YAML parser is not available to tests.
+     */
+    private static GlyphMatcher<String> loadBundledGlyphs(String... files) throws IOException {
+        GlyphMatcher<String> bundled = new GlyphMatcher<>();
+        for (String file : files) {
+            try (InputStream stream = GlyphMatcherTest.class.getResourceAsStream("/glyphs/" + file)) {
+                assertNotNull(stream, file);
+                String glyph = null;
+                boolean placeholders = false;
+                for (String line : new String(stream.readAllBytes(), StandardCharsets.UTF_8).split("\\R")) {
+                    String trimmed = line.split("#", 2)[0].strip();
+                    if (trimmed.isEmpty()) continue;
+                    if (!Character.isWhitespace(line.charAt(0)) && trimmed.endsWith(":")) {
+                        glyph = trimmed.substring(0, trimmed.length() - 1);
+                        bundled.addTag(glyph, glyph);
+                    } else if (trimmed.equals("placeholders:")) placeholders = true;
+                    else if (placeholders && trimmed.startsWith("- "))
+                        bundled.addPlaceholder(trimmed.substring(2).replace("\"", ""), glyph);
+                    else placeholders = false;
+                }
+            }
+        }
+        return bundled.build();
+    }
+
+    private static void assertMatch(GlyphMatcher.Match<String> match, int start, int end, String glyph, GlyphMatcher.Kind kind) {
+        assertEquals(start, match.start());
+        assertEquals(end, match.end());
+        assertEquals(glyph, match.glyph());
+        assertEquals(kind, match.kind());
+        assertFalse(match.escaped());
+    }
+}
@@ -0,0 +1,159 @@
+package io.th0rgal.oraxen.pack.upload;
+
+import com.sun.net.httpserver.HttpServer;
+import io.th0rgal.oraxen.pack.upload.hosts.Polymath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PackUploadCache and the Polymath uploads it saves, against a local stub HTTP server.
+ *
+ * Run with: ./gradlew :core:test --tests
+ * "io.th0rgal.oraxen.pack.upload.PackUploadCacheTest"
+ */
+public class PackUploadCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String PROVIDER = "polymath";
+
+    private HttpServer server;
+    private String base;
+    private final List<String> requests = new ArrayList<>();
+    private String uploadBody;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String request = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath();
+            synchronized (requests) {
+                requests.add(request);
+            }
+            // Polymath answers uploads with the URL and SHA1 of the hosted pack
+            if (request.equals("POST /upload")) {
+                uploadBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1);
+                byte[] response = ("{\"url\":\"" + base + "/pack.zip\",\"sha1\":\"0a1b\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, response.length);
+                exchange.getResponseBody().write(response);
+                exchange.close();
+                return;
+            }
+            int status = exchange.getRequestURI().getPath().equals("/pack.zip") ? 200 : 404;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void testUploadIsRememberedAcrossInstances() throws IOException {
+        new PackUploadCache(tempDir.toFile()).store("polymath", "abc", "def", "http://localhost/pack.zip");
+
+        PackUploadCache.Upload upload = new PackUploadCache(tempDir.toFile()).get("polymath", "abc");
+        assertNotNull(upload);
+        assertEquals("def", upload.hostSha1());
+        assertEquals("http://localhost/pack.zip", upload.url());
+    }
+
+    @Test
+    void testChangedPackOrProviderIsNotReused() throws IOException {
+        PackUploadCache cache = new PackUploadCache(tempDir.toFile());
+        assertNull(cache.get("polymath", "abc"));
+
+        cache.store("polymath", "abc", "def", "http://localhost/pack.zip");
+        assertNull(cache.get("polymath", "changed"));
+        assertNull(cache.get("self-host", "abc"));
+
+        cache.invalidate();
+        assertNull(cache.get("polymath", "abc"));
+    }
+
+    @Test
+    void testStillServedUsesHeadRequest() {
+        assertTrue(PackUploadCache.isStillServed(base + "/pack.zip"));
+        assertFalse(PackUploadCache.isStillServed(base + "/missing.zip"));
+        assertEquals(List.of("HEAD /pack.zip", "HEAD /missing.zip"), requests);
+    }
+
+    @Test
+    void testPolymathUpload() throws IOException {
+        File pack = Files.writeString(tempDir.resolve("pack.zip"), "pack contents").toFile();
+        Polymath polymath = new Polymath(base, "secret");
+
+        assertTrue(polymath.uploadPack(pack));
+        assertEquals(base + "/pack.zip", polymath.getPackURL());
+        assertEquals("0a1b", polymath.getOriginalSHA1());
+        assertArrayEquals(new byte[]{0x0a, 0x1b}, polymath.getSHA1());
+        assertEquals(List.of("POST /upload"), requests);
+        assertTrue(uploadBody.contains("secret"));
+        assertTrue(uploadBody.contains("pack contents"));
+    }
+
+    @Test
+    void testPolymathRestoresOnlyServedUploadsOfItsServer() {
+        Polymath polymath = new Polymath(base, "secret");
+
+        assertFalse(polymath.restoreUpload("0a1b", "http://127.0.0.2:1/pack.zip"));
+        assertFalse(polymath.restoreUpload("0a1b", base + "/missing.zip"));
+        assertNull(polymath.getPackURL());
+
+        assertTrue(polymath.restoreUpload("0a1b", base + "/pack.zip"));
+        assertEquals(base + "/pack.zip", polymath.getPackURL());
+        assertEquals("0a1b", polymath.getOriginalSHA1());
+        assertEquals(List.of("HEAD /missing.zip", "HEAD /pack.zip"), requests);
+    }
+
+    @Test
+    void testUnchangedPackIsNotUploadedAgain() throws IOException {
+        PackUploadCache cache = new PackUploadCache(tempDir.toFile());
+        Polymath polymath = new Polymath(base, "secret");
+        cache.store(PROVIDER, "abc", "0a1b", base + "/pack.zip");
+
+        assertTrue(cache.restore(polymath, PROVIDER, "abc"));
+        assertEquals(base + "/pack.zip", polymath.getPackURL());
+        assertEquals(List.of("HEAD /pack.zip"), requests);
+
+        // Changed or unknown packs are uploaded without checking the previous upload
+        assertFalse(cache.restore(polymath, PROVIDER, "changed"));
+        assertFalse(cache.restore(polymath, PROVIDER, null));
+        assertFalse(cache.restore(polymath, "self-host", "abc"));
+        assertEquals(List.of("HEAD /pack.zip"), requests);
+    }
+
+    @Test
+    void testDroppedUploadIsUploadedAgain() throws IOException {
+        PackUploadCache cache = new PackUploadCache(tempDir.toFile());
+        cache.store(PROVIDER, "abc", "0a1b", base + "/missing.zip");
+
+        assertFalse(cache.restore(new Polymath(base, "secret"), PROVIDER, "abc"));
+        assertEquals(List.of("HEAD /missing.zip"), requests);
+    }
+
+    @Test
+    void testUnreachableServerIsNotServed() {
+        int port = server.getAddress().getPort();
+        server.stop(0);
+        assertFalse(PackUploadCache.isStillServed("http://127.0.0.1:" + port + "/pack.zip"));
+    }
+}
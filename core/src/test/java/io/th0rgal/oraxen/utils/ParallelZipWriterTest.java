@@ -0,0 +1,131 @@
+package io.th0rgal.oraxen.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ParallelZipWriter.
+ *
+ * Run with: ./gradlew :core:test --tests
+ * "io.th0rgal.oraxen.utils.ParallelZipWriterTest"
+ */
+public class ParallelZipWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEntriesAreReadableInOrder() throws IOException {
+        Map<String, byte[]> expected = new LinkedHashMap<>();
+        List<VirtualFile> files = createFiles(expected);
+        File zip = tempDir.resolve("pack.zip").toFile();
+
+        String sha1 = new ParallelZipWriter(Deflater.BEST_COMPRESSION, 4, "comment", false, path -> {
+        }).write(zip, files);
+
+        assertEquals(sha1(Files.readAllBytes(zip.toPath())), sha1);
+        try (ZipFile zipFile = new ZipFile(zip)) {
+            assertEquals("comment", zipFile.getComment());
+            List<String> names = new ArrayList<>();
+            for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements(); ) {
+                ZipEntry entry = entries.nextElement();
+                names.add(entry.getName());
+                assertArrayEquals(expected.get(entry.getName()), zipFile.getInputStream(entry).readAllBytes(),
+                        "Content mismatch for " + entry.getName());
+            }
+            assertEquals(new ArrayList<>(expected.keySet()), names);
+        }
+
+        // Local headers must be valid as well for streaming readers
+        try (ZipInputStream zipInputStream = new ZipInputStream(new FileInputStream(zip))) {
+            int count = 0;
+            for (ZipEntry entry; (entry = zipInputStream.getNextEntry()) != null; count++)
+                assertArrayEquals(expected.get(entry.getName()), zipInputStream.readAllBytes());
+            assertEquals(expected.size(), count);
+        }
+    }
+
+    @Test
+    void testCompressionMethodPerEntry() throws IOException {
+        byte[] random = new byte[4096];
+        new Random(7).nextBytes(random);
+        byte[] json = "{\"parent\":\"item/generated\"}".repeat(100).getBytes(StandardCharsets.UTF_8);
+        List<VirtualFile> files = List.of(
+                new VirtualFile("assets/minecraft/textures", "noise.png", new ByteArrayInputStream(random)),
+                new VirtualFile("assets/minecraft/models", "model.json", new ByteArrayInputStream(json)));
+        File zip = tempDir.resolve("pack.zip").toFile();
+
+        new ParallelZipWriter(Deflater.BEST_COMPRESSION, 2, "", false, path -> {
+        }).write(zip, files);
+
+        try (ZipFile zipFile = new ZipFile(zip)) {
+            assertEquals(ZipEntry.STORED, zipFile.getEntry("assets/minecraft/textures/noise.png").getMethod());
+            assertEquals(ZipEntry.DEFLATED, zipFile.getEntry("assets/minecraft/models/model.json").getMethod());
+        }
+    }
+
+    @Test
+    void testDuplicatesAreSkipped() throws IOException {
+        List<VirtualFile> files = List.of(
+                new VirtualFile("assets/minecraft/font", "default.json", new ByteArrayInputStream("first".getBytes())),
+                new VirtualFile("assets/minecraft/font", "default.json", new ByteArrayInputStream("second".getBytes())));
+        List<String> duplicates = new ArrayList<>();
+        File zip = tempDir.resolve("pack.zip").toFile();
+
+        new ParallelZipWriter(Deflater.DEFAULT_COMPRESSION, 2, "", true, duplicates::add).write(zip, files);
+
+        assertEquals(List.of("assets/minecraft/font/default.json"), duplicates);
+        try (ZipFile zipFile = new ZipFile(zip)) {
+            assertEquals(1, zipFile.size());
+            assertEquals("first", new String(zipFile.getInputStream(zipFile.getEntry("assets/minecraft/font/default.json"))
+                    .readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String sha1(byte[] data) {
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-1").digest(data)) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<VirtualFile> createFiles(Map<String, byte[]> expected) {
+        Random random = new Random(42);
+        List<VirtualFile> files = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            byte[] content;
+            String name;
+            if (i % 3 == 0) {
+                content = new byte[random.nextInt(8192)];
+                random.nextBytes(content);
+                name = "texture_" + i + ".png";
+            } else {
+                content = ("{\"value\":" + "1,".repeat(random.nextInt(400)) + "}").getBytes(StandardCharsets.UTF_8);
+                name = "model_" + i + ".json";
+            }
+            expected.put("assets/oraxen/" + name, content);
+            files.add(new VirtualFile("assets/oraxen", name, new ByteArrayInputStream(content)));
+        }
+        return files;
+    }
+}
@@ -9,6 +9,7 @@ import io.netty.handler.codec.MessageToByteEncoder;
 import io.papermc.paper.adventure.PaperAdventure;
 import io.papermc.paper.configuration.GlobalConfiguration;
 import io.th0rgal.oraxen.OraxenPlugin;
+import io.th0rgal.oraxen.nms.CraftItemStackHandle;
 import io.th0rgal.oraxen.nms.GlyphHandler;
 import io.th0rgal.oraxen.nms.GlyphHandlers;
 import io.th0rgal.oraxen.utils.AdventureUtils;
@@ -44,6 +45,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.Vec3;
 import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
 import org.bukkit.SoundCategory;
 import org.bukkit.SoundGroup;
 import org.bukkit.World;
@@ -107,6 +109,27 @@ public class NMSHandler implements io.th0rgal.oraxen.nms.NMSHandler {
         return CraftItemStack.asBukkitCopy(newNmsItem);
     }
 
+    @Override
+    @javax.annotation.Nullable
+    public String getPersistentDataString(@NotNull ItemStack itemStack, @NotNull NamespacedKey key) {
+        if (!(CraftItemStackHandle.get(itemStack) instanceof net.minecraft.world.item.ItemStack nmsStack))
+            return io.th0rgal.oraxen.nms.NMSHandler.super.getPersistentDataString(itemStack, key);
+        CompoundTag tag = nmsStack.getTag();
+        if (tag == null || !(tag.get("PublicBukkitValues") instanceof CompoundTag bukkitValues))
+            return null;
+        return bukkitValues.get(key.toString()) instanceof StringTag value ? value.getAsString() : null;
+    }
+
+    @Override
+    public boolean hasPersistentData(@NotNull ItemStack itemStack, @NotNull NamespacedKey key) {
+        if (!(CraftItemStackHandle.get(itemStack) instanceof net.minecraft.world.item.ItemStack nmsStack))
+            return io.th0rgal.oraxen.nms.NMSHandler.super.hasPersistentData(itemStack, key);
+        CompoundTag tag = nmsStack.getTag();
+        if (tag == null || !(tag.get("PublicBukkitValues") instanceof CompoundTag bukkitValues))
+            return false;
+        return bukkitValues.contains(key.toString());
+    }
+
     @Override
     @javax.annotation.Nullable
     public BlockData correctBlockStates(Player player, EquipmentSlot slot, ItemStack itemStack) {
@@ -191,6 +191,8 @@ public class GlyphHandler implements io.th0rgal.oraxen.nms.GlyphHandler {
 
         @Override
         public @NotNull FriendlyByteBuf writeUtf(@NotNull String string, int maxLength) {
+            // Most strings are identifiers or plain text, skip parsing those
+            if (!GlyphHandlers.mayContainJsonGlyphs(string, false)) return super.writeUtf(string, maxLength);
             try {
                 JsonElement element = JsonParser.parseString(string);
                 if (element.isJsonObject())
@@ -204,6 +206,7 @@ public class GlyphHandler implements io.th0rgal.oraxen.nms.GlyphHandler {
         @Override
         public @NotNull String readUtf(int i) {
             String string = super.readUtf(i);
+            if (!GlyphHandlers.mayContainGlyphs(string, true)) return string;
             Component component;
             try {
                 component = AdventureUtils.MINI_MESSAGE_EMPTY.deserialize(string);
@@ -2,6 +2,7 @@ package io.th0rgal.oraxen.nms.v1_20_R2;
 
 import io.papermc.paper.configuration.GlobalConfiguration;
 import io.th0rgal.oraxen.items.ItemBuilder;
+import io.th0rgal.oraxen.nms.CraftItemStackHandle;
 import io.th0rgal.oraxen.nms.GlyphHandler;
 import io.th0rgal.oraxen.utils.BlockHelpers;
 import io.th0rgal.oraxen.utils.VersionUtil;
@@ -11,6 +12,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.StringTag;
 import net.minecraft.network.protocol.common.ClientboundUpdateTagsPacket;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -27,6 +29,7 @@ import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.Vec3;
+import org.bukkit.NamespacedKey;
 import org.bukkit.SoundCategory;
 import org.bukkit.SoundGroup;
 import org.bukkit.World;
@@ -83,6 +86,27 @@ public class NMSHandler implements io.th0rgal.oraxen.nms.NMSHandler {
         return CraftItemStack.asBukkitCopy(newNmsItem);
     }
 
+    @Override
+    @Nullable
+    public String getPersistentDataString(@NotNull ItemStack itemStack, @NotNull NamespacedKey key) {
+        if (!(CraftItemStackHandle.get(itemStack) instanceof net.minecraft.world.item.ItemStack nmsStack))
+            return io.th0rgal.oraxen.nms.NMSHandler.super.getPersistentDataString(itemStack, key);
+        CompoundTag tag = nmsStack.getTag();
+        if (tag == null || !(tag.get("PublicBukkitValues") instanceof CompoundTag bukkitValues))
+            return null;
+        return bukkitValues.get(key.toString()) instanceof StringTag value ? value.getAsString() : null;
+    }
+
+    @Override
+    public boolean hasPersistentData(@NotNull ItemStack itemStack, @NotNull NamespacedKey key) {
+        if (!(CraftItemStackHandle.get(itemStack) instanceof net.minecraft.world.item.ItemStack nmsStack))
+            return io.th0rgal.oraxen.nms.NMSHandler.super.hasPersistentData(itemStack, key);
+        CompoundTag tag = nmsStack.getTag();
+        if (tag == null || !(tag.get("PublicBukkitValues") instanceof CompoundTag bukkitValues))
+            return false;
+        return bukkitValues.contains(key.toString());
+    }
+
     @Override
     @Nullable
     public BlockData correctBlockStates(Player player, EquipmentSlot slot, ItemStack itemStack) {
@@ -8,6 +8,7 @@ import io.papermc.paper.network.ChannelInitializeListenerHolder;
 import io.th0rgal.oraxen.OraxenPlugin;
 import io.th0rgal.oraxen.items.ItemBuilder;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.noteblock.NoteBlockMechanicFactory;
+import io.th0rgal.oraxen.nms.CraftItemStackHandle;
 import io.th0rgal.oraxen.nms.GlyphHandler;
 import io.th0rgal.oraxen.utils.BlockHelpers;
 import io.th0rgal.oraxen.utils.PotionUtils;
@@ -18,9 +19,11 @@ import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
 import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.StringTag;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.common.ClientboundUpdateTagsPacket;
 import net.minecraft.resources.ResourceKey;
@@ -35,6 +38,7 @@ import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.context.BlockPlaceContext;
 import net.minecraft.world.item.context.DirectionalPlaceContext;
 import net.minecraft.world.item.context.UseOnContext;
+import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.BlockHitResult;
@@ -138,6 +142,29 @@ public class NMSHandler implements io.th0rgal.oraxen.nms.NMSHandler {
         return CraftItemStack.asBukkitCopy(newNmsItem);
     }
 
+    @Override
+    @Nullable
+    public String getPersistentDataString(@NotNull ItemStack itemStack, @NotNull NamespacedKey key) {
+        if (!(CraftItemStackHandle.get(itemStack) instanceof net.minecraft.world.item.ItemStack nmsStack))
+            return io.th0rgal.oraxen.nms.NMSHandler.super.getPersistentDataString(itemStack, key);
+        CustomData customData = nmsStack.get(DataComponents.CUSTOM_DATA);
+        // getUnsafe avoids copying the tag, it is only read here
+        if (customData == null || !(customData.getUnsafe().get("PublicBukkitValues") instanceof CompoundTag bukkitValues))
+            return null;
+        return bukkitValues.get(key.toString()) instanceof StringTag value ? value.getAsString() : null;
+    }
+
+    @Override
+    public boolean hasPersistentData(@NotNull ItemStack itemStack, @NotNull NamespacedKey key) {
+        if (!(CraftItemStackHandle.get(itemStack) instanceof net.minecraft.world.item.ItemStack nmsStack))
+            return io.th0rgal.oraxen.nms.NMSHandler.super.hasPersistentData(itemStack, key);
+        CustomData customData = nmsStack.get(DataComponents.CUSTOM_DATA);
+        // getUnsafe avoids copying the tag, it is only read here
+        if (customData == null || !(customData.getUnsafe().get("PublicBukkitValues") instanceof CompoundTag bukkitValues))
+            return false;
+        return bukkitValues.contains(key.toString());
+    }
+
     @Override
     @Nullable
     public BlockData correctBlockStates(Player player, EquipmentSlot slot, ItemStack itemStack) {
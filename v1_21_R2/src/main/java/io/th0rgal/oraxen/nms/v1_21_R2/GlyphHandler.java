@@ -311,6 +311,8 @@ public class GlyphHandler implements io.th0rgal.oraxen.nms.GlyphHandler {
 
         @Override
         public @NotNull FriendlyByteBuf writeUtf(@NotNull String string, int maxLength) {
+            // Most strings are identifiers or plain text, skip parsing those
+            if (!GlyphHandlers.mayContainJsonGlyphs(string, false)) return super.writeUtf(string, maxLength);
             try {
                 JsonElement element = JsonParser.parseString(string);
                 if (element.isJsonObject())
@@ -323,7 +325,9 @@ public class GlyphHandler implements io.th0rgal.oraxen.nms.GlyphHandler {
 
         @Override
         public @NotNull String readUtf(int i) {
-            Component component = AdventureUtils.MINI_MESSAGE_EMPTY.deserialize(super.readUtf(i));
+            String string = super.readUtf(i);
+            if (!GlyphHandlers.mayContainGlyphs(string, true)) return string;
+            Component component = AdventureUtils.MINI_MESSAGE_EMPTY.deserialize(string);
             return AdventureUtils.MINI_MESSAGE_EMPTY.serialize(GlyphHandlers.transform(component, player, true));
         }
 